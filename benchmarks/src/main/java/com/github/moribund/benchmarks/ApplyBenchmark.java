@@ -0,0 +1,127 @@
+package com.github.moribund.benchmarks;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.github.moribund.MoribundClient;
+import com.github.moribund.net.packets.IncomingPacket;
+import com.github.moribund.net.packets.account.CreateNewPlayerPacket;
+import com.github.moribund.net.packets.data.GroundItemData;
+import com.github.moribund.net.packets.game.GameStatePacket;
+import com.github.moribund.objects.nonplayable.items.ItemType;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks applying the packets that grow with the amount of players to a headless {@link MoribundClient}: a
+ * {@link GameStatePacket} of every player, and the {@link CreateNewPlayerPacket} that fills the world at the start
+ * of a game. The packets are made as the {@link Kryo} reads them, and are applied straight away rather than on the
+ * next tick, as the {@link HeadlessGame} runs whatever is posted on the spot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplyBenchmark {
+
+    /**
+     * A game of players that a {@link GameStatePacket} of all of them is applied to.
+     */
+    @State(Scope.Benchmark)
+    public static class GameState {
+
+        @Param({"10", "100", "1000"})
+        public int players;
+
+        private IncomingPacket packet;
+
+        @Setup
+        public void setUp() {
+            HeadlessGame.start();
+            val kryo = new Kryo();
+            SamplePackets.register(kryo);
+            val samples = new SamplePackets(kryo, players);
+            makeCreateNewPlayer(samples).process();
+            MoribundClient.getInstance().getEntityCommands().flush();
+            packet = (IncomingPacket) samples.make(GameStatePacket.class, 0);
+        }
+
+        @TearDown
+        public void tearDown() {
+            HeadlessGame.clearWorld();
+        }
+    }
+
+    /**
+     * An empty game that a {@link CreateNewPlayerPacket} of every player and ground item is applied to, and that is
+     * emptied again after every operation.
+     */
+    @State(Scope.Benchmark)
+    public static class CreateNewPlayer {
+
+        @Param({"10", "100", "1000"})
+        public int players;
+
+        private IncomingPacket packet;
+
+        @Setup
+        public void setUp() {
+            HeadlessGame.start();
+            val kryo = new Kryo();
+            SamplePackets.register(kryo);
+            packet = makeCreateNewPlayer(new SamplePackets(kryo, players));
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            HeadlessGame.clearWorld();
+        }
+    }
+
+    /**
+     * Moves, heals, and re-equips every player to where the server says they are.
+     */
+    @Benchmark
+    public Object gameState(GameState state) {
+        state.packet.process();
+        return MoribundClient.getInstance().getEntityStore();
+    }
+
+    /**
+     * Makes every player and ground item of a game and sets up the player of the client.
+     */
+    @Benchmark
+    public Object createNewPlayer(CreateNewPlayer state) {
+        state.packet.process();
+        return MoribundClient.getInstance().getPlayer();
+    }
+
+    /**
+     * Makes a {@link CreateNewPlayerPacket} whose ground items are all of real item types, as ground items of
+     * unknown types are skipped.
+     */
+    @SuppressWarnings("unchecked")
+    static IncomingPacket makeCreateNewPlayer(SamplePackets samples) {
+        val packet = (IncomingPacket) samples.make(CreateNewPlayerPacket.class, 0);
+        val groundItems = (ObjectList<GroundItemData>) SamplePackets.get(packet, "groundItems");
+        val itemTypes = ItemType.values();
+        for (int i = 0; i < groundItems.size(); i++) {
+            SamplePackets.set(groundItems.get(i), "itemId", itemTypes[i % itemTypes.length].getId());
+        }
+        return packet;
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.moribund.benchmarks;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.github.moribund.MoribundClient;
+import com.github.moribund.graphics.fonts.FontContainer;
+import com.github.moribund.graphics.sprites.SpriteContainer;
+import com.github.moribund.simulation.Simulation;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Starts just enough of libGDX for the entities of the game to be made and drawn without a window: a headless
+ * application for the files, a screen of {@link HeadlessGame#SCREEN_WIDTH} by {@link HeadlessGame#SCREEN_HEIGHT} for
+ * the HUD to be laid out on, and a {@link NoOpGL}, so that the {@link SpriteContainer} and the
+ * {@link FontContainer} can load the textures that players and projectiles are made from, and sprite batches can be
+ * made and drawn with, but nothing ever reaches a screen. As there is no render loop,
+ * anything posted to the application is run straight away on the thread that posted it, so that a packet has been
+ * applied by the time {@link com.github.moribund.net.packets.IncomingPacket#process()} returns.
+ */
+@UtilityClass
+public class HeadlessGame {
+
+    /**
+     * The width of the screen, which is that of the window of the game.
+     */
+    public final int SCREEN_WIDTH = 1280;
+
+    /**
+     * The height of the screen, which is that of the window of the game.
+     */
+    public final int SCREEN_HEIGHT = 720;
+
+    /**
+     * If the headless application has been started.
+     */
+    private boolean started;
+
+    /**
+     * Starts the headless application and loads the sprites, should it not have been started already.
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        val configuration = new HeadlessApplicationConfiguration();
+        // the application only exists for its files, so it never renders
+        configuration.renderInterval = -1;
+        val application = new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+        Gdx.app = runningPostedInline(application);
+        Gdx.graphics = new FixedSizeGraphics();
+        val gl = new NoOpGL();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        SpriteContainer.getInstance().setup();
+        FontContainer.getInstance().setup();
+        started = true;
+    }
+
+    /**
+     * Takes every entity back out of the world, in the same way as the game screen does at the end of a game.
+     */
+    public void clearWorld() {
+        val client = MoribundClient.getInstance();
+        val projectiles = client.getProjectiles();
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectiles.get(i).removeProjectile();
+        }
+        client.getEntityCommands().flush();
+        client.getEntityCommands().clear();
+        Simulation.getInstance().getTimers().clear();
+        client.getWorld().clear();
+        client.getPlayers().clear();
+        client.getGroundItemsById().clear();
+        client.getGroundItemGrid().clear();
+        client.getHud().clear();
+        client.getEntityStore().clear();
+        client.getCollisionGrid().clear();
+        client.setPlayer(null);
+    }
+
+    /**
+     * Wraps an application so that {@link Application#postRunnable(Runnable)} runs the runnable straight away.
+     * @param application The application to wrap.
+     * @return The wrapped application.
+     */
+    private Application runningPostedInline(Application application) {
+        return (Application) Proxy.newProxyInstance(Application.class.getClassLoader(),
+                new Class<?>[] {Application.class}, (proxy, method, arguments) -> {
+                    if (method.getName().equals("postRunnable")) {
+                        ((Runnable) arguments[0]).run();
+                        return null;
+                    }
+                    return method.invoke(application, arguments);
+                });
+    }
+
+    /**
+     * The graphics of a screen that is always {@link HeadlessGame#SCREEN_WIDTH} by
+     * {@link HeadlessGame#SCREEN_HEIGHT}, in place of that of the headless application, which has no size.
+     */
+    private static final class FixedSizeGraphics extends MockGraphics {
+
+        @Override
+        public int getWidth() {
+            return SCREEN_WIDTH;
+        }
+
+        @Override
+        public int getHeight() {
+            return SCREEN_HEIGHT;
+        }
+
+        @Override
+        public int getBackBufferWidth() {
+            return SCREEN_WIDTH;
+        }
+
+        @Override
+        public int getBackBufferHeight() {
+            return SCREEN_HEIGHT;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.moribund.benchmarks;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.github.moribund.MoribundClient;
+import lombok.extern.java.Log;
+import lombok.val;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * The {@code HeapFootprint} measures how much of the heap the entities of a world keep alive: a hundred players,
+ * as the server makes them with a {@link com.github.moribund.net.packets.game.CreateNewPlayerPacket}, and five
+ * hundred projectiles launched into a {@link SyntheticWorld}. The heap in use is read from the {@link MemoryMXBean}
+ * after collecting the garbage until it no longer shrinks, once before anything is made, once after the players, and
+ * once after the projectiles, and the differences are logged in all and per entity. The sprites are loaded and a
+ * packet is made and thrown away before the first reading, so that they are not counted. No projectile is made
+ * before then, as a freed one would be kept by its
+ * {@link com.github.moribund.objects.nonplayable.projectile.ProjectilePool} and reused without being counted.
+ * <p>
+ * It is run with {@code gradle :benchmarks:heapFootprint}.
+ */
+@Log
+public final class HeapFootprint {
+
+    /**
+     * The amount of players.
+     */
+    private static final int PLAYERS = 100;
+
+    /**
+     * The amount of projectiles.
+     */
+    private static final int PROJECTILES = 500;
+
+    /**
+     * The most collections run for a single reading.
+     */
+    private static final int MAX_COLLECTIONS = 20;
+
+    private HeapFootprint() {
+    }
+
+    public static void main(String[] arguments) throws InterruptedException {
+        HeadlessGame.start();
+        val kryo = new Kryo();
+        SamplePackets.register(kryo);
+        val samples = new SamplePackets(kryo, PLAYERS);
+        ApplyBenchmark.makeCreateNewPlayer(samples);
+
+        val empty = usedHeap();
+        ApplyBenchmark.makeCreateNewPlayer(samples).process();
+        MoribundClient.getInstance().getEntityCommands().flush();
+        val withPlayers = usedHeap();
+        val world = new SyntheticWorld(0, PROJECTILES, 1);
+        val withProjectiles = usedHeap();
+
+        log.info(report("players", withPlayers - empty, PLAYERS));
+        log.info(report("projectiles", withProjectiles - withPlayers, PROJECTILES));
+        log.info("In all: " + (withProjectiles - empty) + " bytes");
+        world.dispose();
+        System.exit(0);
+    }
+
+    /**
+     * Collects the garbage until the heap in use no longer shrinks, then reads it.
+     * @return The bytes of the heap in use.
+     * @throws InterruptedException Should the thread be interrupted while waiting for a collection to finish.
+     */
+    private static long usedHeap() throws InterruptedException {
+        val memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < MAX_COLLECTIONS; i++) {
+            System.gc();
+            Thread.sleep(50);
+            val now = memory.getHeapMemoryUsage().getUsed();
+            if (now >= used) {
+                return used;
+            }
+            used = now;
+        }
+        return used;
+    }
+
+    /**
+     * Describes the heap some entities keep alive.
+     * @param name The name of the entities.
+     * @param bytes The bytes they keep alive.
+     * @param count The amount of them.
+     * @return The description.
+     */
+    private static String report(String name, long bytes, int count) {
+        return count + " " + name + ": " + bytes + " bytes, " + bytes / count + " bytes each";
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.moribund.benchmarks;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.RandomXS128;
+import com.github.moribund.graphics.sprites.SpriteVertices;
+import com.github.moribund.objects.collision.Hitbox;
+import com.github.moribund.objects.collision.HitboxShape;
+import com.github.moribund.objects.collision.NarrowPhase;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks testing a projectile against a player on the real {@link SpriteVertices} outlines, once with
+ * {@link Intersector#overlapConvexPolygons(float[], float[], Intersector.MinimumTranslationVector)} on every pair of
+ * convex pieces and once with the layered {@link NarrowPhase}. Each operation tests {@link NarrowPhaseBenchmark#PAIRS}
+ * pairs placed close enough together that some overlap and some do not. Neither needs a GL context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NarrowPhaseBenchmark {
+
+    /**
+     * The amount of pairs tested in each operation.
+     */
+    private static final int PAIRS = 1024;
+
+    /**
+     * The furthest apart the origins of a pair are placed, along each axis.
+     */
+    private static final float SPREAD = 150;
+
+    @Param({"ARROW_PROJECTILE", "DART_PROJECTILE", "SPEAR_PROJECTILE"})
+    public SpriteVertices projectile;
+
+    @Param({"PLAYER", "PLAYER_WITH_SPEAR"})
+    public SpriteVertices player;
+
+    private Hitbox[] projectileHitboxes;
+    private Hitbox[] playerHitboxes;
+
+    @Setup
+    public void setUp() {
+        val random = new RandomXS128(42);
+        projectileHitboxes = new Hitbox[PAIRS];
+        playerHitboxes = new Hitbox[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            projectileHitboxes[i] = place(projectile.getShape(), random.nextFloat() * SPREAD,
+                    random.nextFloat() * SPREAD, random.nextFloat() * 360);
+            playerHitboxes[i] = place(player.getShape(), 0, 0, random.nextFloat() * 360);
+            // the world-space vertices are computed here, so that both benchmarks only measure the tests
+            projectileHitboxes[i].getWorldPieces();
+            playerHitboxes[i].getWorldPieces();
+        }
+    }
+
+    /**
+     * Tests every convex piece of each projectile against every convex piece of its player.
+     * @return The amount of pairs that overlap.
+     */
+    @Benchmark
+    public int intersectorPieces() {
+        int overlaps = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            if (piecesOverlap(projectileHitboxes[i].getWorldPieces(), playerHitboxes[i].getWorldPieces())) {
+                overlaps++;
+            }
+        }
+        return overlaps;
+    }
+
+    /**
+     * Tests each projectile against its player with the {@link NarrowPhase}.
+     * @return The amount of pairs that overlap.
+     */
+    @Benchmark
+    public int narrowPhase() {
+        int overlaps = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            if (NarrowPhase.overlaps(projectileHitboxes[i], playerHitboxes[i])) {
+                overlaps++;
+            }
+        }
+        return overlaps;
+    }
+
+    private static boolean piecesOverlap(float[][] first, float[][] second) {
+        for (val firstPiece : first) {
+            for (val secondPiece : second) {
+                if (Intersector.overlapConvexPolygons(firstPiece, secondPiece, null)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Makes a hitbox that rotates around the middle of its hull, as a sprite rotates around its middle.
+     */
+    private static Hitbox place(HitboxShape shape, float x, float y, float rotation) {
+        val hull = shape.getHull();
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < hull.length; i += 2) {
+            minX = Math.min(minX, hull[i]);
+            minY = Math.min(minY, hull[i + 1]);
+            maxX = Math.max(maxX, hull[i]);
+            maxY = Math.max(maxY, hull[i + 1]);
+        }
+        val hitbox = new Hitbox(shape, (minX + maxX) / 2, (minY + maxY) / 2);
+        hitbox.setTransform(x, y, rotation);
+        return hitbox;
+    }
+}
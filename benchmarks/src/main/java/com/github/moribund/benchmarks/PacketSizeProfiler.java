@@ -0,0 +1,53 @@
+package com.github.moribund.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * The {@code PacketSizeProfiler} reports the size of the packet a {@link SerializationBenchmark} writes and reads as
+ * a secondary result of every iteration, {@code packet.size}, in the same way as the gc profiler reports the bytes
+ * allocated an operation. It runs in the forked VM of the benchmark, which sets the size when it is set up, and
+ * reports nothing for a benchmark that serializes no packet. It is turned on with
+ * {@code -prof com.github.moribund.benchmarks.PacketSizeProfiler}, which the {@code jmh} task does.
+ */
+public final class PacketSizeProfiler implements InternalProfiler {
+
+    /**
+     * The size of the packet of the benchmark being run, in bytes, or 0 should it not serialize one.
+     */
+    private static volatile int packetSize;
+
+    /**
+     * Sets the size of the packet of the benchmark being run.
+     * @param bytes The size of the packet, in bytes.
+     */
+    static void setPacketSize(int bytes) {
+        packetSize = bytes;
+    }
+
+    @Override
+    public String getDescription() {
+        return "The size of the serialized packet";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams, IterationResult result) {
+        if (packetSize == 0) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new ScalarResult("packet.size", packetSize, "bytes", AggregationPolicy.AVG));
+    }
+}
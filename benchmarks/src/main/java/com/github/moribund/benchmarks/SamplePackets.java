@@ -0,0 +1,168 @@
+package com.github.moribund.benchmarks;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.github.moribund.net.NetworkBootstrapper;
+import com.github.moribund.objects.nonplayable.items.ItemType;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.val;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * {@code SamplePackets} makes filled-in instances of the classes that
+ * {@link NetworkBootstrapper#registerPackets(Kryo)} registers, so that every packet can be benchmarked without
+ * writing a sample of each by hand. Every field is filled in by its type: numbers from the index of the object, so
+ * that the players of a list have different IDs, strings from the name of the field, and lists with a set amount of
+ * samples of their elements. Integers are only ever item IDs in the protocol, so they are sampled as real ones.
+ */
+final class SamplePackets {
+
+    /**
+     * The kryo that makes the instances, in the same way it does when it reads them.
+     */
+    private final Kryo kryo;
+
+    /**
+     * The amount of elements in every list.
+     */
+    private final int listSize;
+
+    /**
+     * Makes samples for a {@link Kryo} that the packets are registered with.
+     * @param kryo The kryo.
+     * @param listSize The amount of elements in every list.
+     */
+    SamplePackets(Kryo kryo, int listSize) {
+        this.kryo = kryo;
+        this.listSize = listSize;
+    }
+
+    /**
+     * Registers the packets with a {@link Kryo}, in the same way the game does.
+     * @param kryo The kryo to register the packets with.
+     * @return Every class registered, in the order they were registered.
+     */
+    static ObjectList<Class<?>> register(Kryo kryo) {
+        // kryo registers the classes it serializes by default first, so the classes of the game come after them
+        val first = kryo.getNextRegistrationId();
+        NetworkBootstrapper.registerPackets(kryo);
+        val classes = new ObjectArrayList<Class<?>>();
+        for (int id = first; id < kryo.getNextRegistrationId(); id++) {
+            classes.add(kryo.getRegistration(id).getType());
+        }
+        return classes;
+    }
+
+    /**
+     * Makes a filled-in instance of a class.
+     * @param type The class.
+     * @param index The index of the instance within its list, or 0 should it not be in one.
+     * @return The instance.
+     */
+    Object make(Class<?> type, int index) {
+        return make(type, null, index);
+    }
+
+    /**
+     * Sets a field of an object, no matter its access.
+     * @param target The object.
+     * @param name The name of the field.
+     * @param value The value to set the field to.
+     */
+    static void set(Object target, String name, Object value) {
+        try {
+            val field = find(target.getClass(), name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to set " + name + " of " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Gets a field of an object, no matter its access.
+     * @param target The object.
+     * @param name The name of the field.
+     * @return The value of the field.
+     */
+    static Object get(Object target, String name) {
+        try {
+            val field = find(target.getClass(), name);
+            field.setAccessible(true);
+            return field.get(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to get " + name + " of " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    private Object make(Class<?> type, Type genericType, int index) {
+        if (type == int.class) {
+            return index;
+        } else if (type == Integer.class) {
+            return index % ItemType.values().length;
+        } else if (type == float.class) {
+            return index * 10f;
+        } else if (type == boolean.class) {
+            return index % 2 == 0;
+        } else if (type == String.class) {
+            return "sample" + index;
+        } else if (type.isEnum()) {
+            val constants = type.getEnumConstants();
+            return constants[index % constants.length];
+        } else if (ObjectList.class.isAssignableFrom(type)) {
+            return makeList(genericType);
+        }
+        val instance = kryo.newInstance(type);
+        fill(instance, index);
+        return instance;
+    }
+
+    /**
+     * Makes a list of samples of the element type of a field, or of item IDs should the element type be unknown.
+     */
+    private ObjectList<Object> makeList(Type genericType) {
+        Class<?> elementType = Integer.class;
+        if (genericType instanceof ParameterizedType) {
+            elementType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        }
+        val list = new ObjectArrayList<Object>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            list.add(make(elementType, null, i));
+        }
+        return list;
+    }
+
+    /**
+     * Fills in every field of an object that is serialized.
+     */
+    private void fill(Object instance, int index) {
+        for (Class<?> type = instance.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    field.set(instance, make(field.getType(), field.getGenericType(), index));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Unable to fill " + field, e);
+                }
+            }
+        }
+    }
+
+    private static Field find(Class<?> type, String name) throws NoSuchFieldException {
+        for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                // the field may be declared by a superclass
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+}
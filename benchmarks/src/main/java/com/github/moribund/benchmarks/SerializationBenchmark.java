@@ -0,0 +1,132 @@
+package com.github.moribund.benchmarks;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryonet.Client;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks writing and reading every class registered by
+ * {@link com.github.moribund.net.NetworkBootstrapper#registerPackets(Kryo)}, through the {@link Kryo} of a real
+ * {@link Client}, so that it is configured exactly as it is in the game. The size of each packet does not change from
+ * one operation to the next, so it is measured once, when its benchmark is set up, and reported next to the times by
+ * the {@link PacketSizeProfiler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    /**
+     * The simple name of the registered class to benchmark. Every registered class must be in here, which is
+     * checked when the benchmark is set up.
+     */
+    @Param({"DrawNewPlayerPacket", "CreateNewPlayerPacket", "CreateNewPlayerRequestPacket", "ObjectList", "Integer",
+            "KeyPressedPacket", "KeyPressedResponsePacket", "KeyUnpressedPacket", "KeyUnpressedResponsePacket",
+            "LocationPacket", "RotationPacket", "GameStatePacket", "ExitGamePacket", "LoginPacket", "LoginResponse",
+            "LoginResponsePacket", "ItemType", "GroundItemData", "PlayerData", "PickupItemPacket",
+            "ProjectileCollisionPacket", "ItemOnItemPacket", "EquipItemPacket", "UpdateAppearancePacket",
+            "MouseClickedPacket", "AnimationProjectilePacket", "TimeLeftRefreshPacket", "UnequipItemPacket",
+            "LobbyTimeLeftRefreshPacket", "DeathPacket", "NewGroundItemPacket", "DropItemPacket",
+            "VictoryRoyalePacket"})
+    public String packet;
+
+    /**
+     * The amount of elements in every list of the packet, such as the players of a game state.
+     */
+    @Param({"10"})
+    public int listSize;
+
+    private Client client;
+    private Kryo kryo;
+    private Object sample;
+    private Output output;
+    private Input input;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        // the item types are made from sprites, which must be loaded before the first sample touches them
+        HeadlessGame.start();
+        client = new Client();
+        kryo = client.getKryo();
+        val classes = SamplePackets.register(kryo);
+        checkEveryClassIsBenchmarked(classes);
+        Class<?> type = null;
+        for (val registered : classes) {
+            if (registered.getSimpleName().equals(packet)) {
+                type = registered;
+            }
+        }
+        if (type == null) {
+            throw new IllegalArgumentException(packet + " is not registered");
+        }
+        sample = new SamplePackets(kryo, listSize).make(type, 1);
+        output = new Output(1024, -1);
+        kryo.writeClassAndObject(output, sample);
+        serialized = output.toBytes();
+        input = new Input();
+        PacketSizeProfiler.setPacketSize(serialized.length);
+    }
+
+    /**
+     * Checks that every registered class is one of the {@link SerializationBenchmark#packet}s, so that a packet added
+     * to the game is not left out of the benchmark.
+     * @param classes The registered classes.
+     */
+    private static void checkEveryClassIsBenchmarked(Iterable<Class<?>> classes) throws NoSuchFieldException {
+        val packets = SerializationBenchmark.class.getField("packet").getAnnotation(Param.class).value();
+        val benchmarked = new ObjectOpenHashSet<String>(packets);
+        for (val registered : classes) {
+            if (!benchmarked.contains(registered.getSimpleName())) {
+                throw new IllegalStateException(registered.getName() + " is registered but is not benchmarked");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.dispose();
+    }
+
+    /**
+     * Writes the packet along with its class, as a connection does.
+     * @return The amount of bytes written.
+     */
+    @Benchmark
+    public int write() {
+        output.clear();
+        kryo.writeClassAndObject(output, sample);
+        return output.position();
+    }
+
+    /**
+     * Reads the packet along with its class, as a connection does.
+     * @return The packet read.
+     */
+    @Benchmark
+    public Object read() {
+        input.setBuffer(serialized);
+        return kryo.readClassAndObject(input);
+    }
+}
@@ -0,0 +1,176 @@
+package com.github.moribund.benchmarks;
+
+import com.github.moribund.MoribundClient;
+import com.github.moribund.graphics.sprites.SpriteContainer;
+import com.github.moribund.graphics.sprites.SpriteFile;
+import com.github.moribund.graphics.sprites.SpriteVertices;
+import com.github.moribund.objects.attributes.Collidable;
+import com.github.moribund.objects.attributes.Flaggable;
+import com.github.moribund.objects.attributes.RestrictedMovable;
+import com.github.moribund.objects.collision.Hitbox;
+import com.github.moribund.objects.entities.EntityStore;
+import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.nonplayable.projectile.Projectile;
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * A {@code SyntheticPlayer} stands in for a {@link com.github.moribund.objects.playable.players.Player} in the
+ * benchmarks. It moves by its flags and is collided with in the same way, with the real outline of a player, but has
+ * no sprite, UI, or connection to the server. Being hit only counts the hit, so the projectile keeps on flying and
+ * the world stays the same size for the whole benchmark.
+ */
+final class SyntheticPlayer implements Collidable, Flaggable, RestrictedMovable {
+
+    /**
+     * The distance a player moves each tick along each axis it is flagged to move along.
+     */
+    private static final float SPEED = 3;
+
+    /**
+     * The store that holds the position of the player.
+     */
+    private final EntityStore store;
+
+    /**
+     * The hitbox of the player, shaped like the real one.
+     */
+    private final Hitbox hitbox;
+
+    /**
+     * The coordinate of the bottom left corner of the square the player bounces around in, on both axes.
+     */
+    private final float worldOrigin;
+
+    /**
+     * The size of the square the player bounces around in.
+     */
+    private final float worldSize;
+
+    @Getter
+    private final int slot;
+
+    @Getter
+    private final int handle;
+
+    /**
+     * The amount of projectiles that have hit the player.
+     */
+    @Getter
+    private int hits;
+
+    /**
+     * Makes a player and adds it to the {@link MoribundClient#getWorld()}.
+     * @param x The x-coordinate of the player.
+     * @param y The y-coordinate of the player.
+     * @param flags The movement flags of the player, which it keeps for the whole benchmark.
+     * @param worldOrigin The coordinate of the bottom left corner of the square the player bounces around in, on both
+     *                    axes.
+     * @param worldSize The size of the square the player bounces around in.
+     */
+    SyntheticPlayer(float x, float y, int flags, float worldOrigin, float worldSize) {
+        val client = MoribundClient.getInstance();
+        val sprite = SpriteContainer.getInstance().getSprite(SpriteFile.PLAYER);
+        this.store = client.getEntityStore();
+        this.worldOrigin = worldOrigin;
+        this.worldSize = worldSize;
+        hitbox = new Hitbox(SpriteVertices.PLAYER.getShape(), sprite.getOriginX(), sprite.getOriginY());
+        slot = store.allocate();
+        handle = store.getHandle(slot);
+        store.setTransform(slot, x, y, 0);
+        store.setFlags(slot, flags);
+        client.getWorld().add(this);
+    }
+
+    @Override
+    public void collide(Projectile projectile) {
+        hits++;
+    }
+
+    @Override
+    public Hitbox getHitbox() {
+        hitbox.sync(store, slot);
+        return hitbox;
+    }
+
+    /**
+     * Turns the player round on any axis it has gone past the edge of the world on.
+     */
+    @Override
+    public void processFlags() {
+        val x = getX() - worldOrigin;
+        val y = getY() - worldOrigin;
+        if (x < 0) {
+            turn(Flag.MOVE_LEFT, Flag.MOVE_RIGHT);
+        } else if (x > worldSize) {
+            turn(Flag.MOVE_RIGHT, Flag.MOVE_LEFT);
+        }
+        if (y < 0) {
+            turn(Flag.MOVE_DOWN, Flag.MOVE_UP);
+        } else if (y > worldSize) {
+            turn(Flag.MOVE_UP, Flag.MOVE_DOWN);
+        }
+    }
+
+    /**
+     * Replaces a movement flag with the opposite one, should the player have it.
+     * @param from The flag the player is moving by.
+     * @param to The flag to move by instead.
+     */
+    private void turn(int from, int to) {
+        if ((store.getFlags(slot) & from) != 0) {
+            store.clearFlags(slot, from);
+            store.setFlags(slot, to);
+        }
+    }
+
+    @Override
+    public void moveUp() {
+        store.translate(slot, 0, SPEED);
+    }
+
+    @Override
+    public void moveDown() {
+        store.translate(slot, 0, -SPEED);
+    }
+
+    @Override
+    public void moveLeft() {
+        store.translate(slot, -SPEED, 0);
+    }
+
+    @Override
+    public void moveRight() {
+        store.translate(slot, SPEED, 0);
+    }
+
+    @Override
+    public void setX(float x) {
+        store.setX(slot, x);
+    }
+
+    @Override
+    public void setY(float y) {
+        store.setY(slot, y);
+    }
+
+    @Override
+    public void setRotation(float angle) {
+        store.setRotation(slot, angle);
+    }
+
+    @Override
+    public float getX() {
+        return store.getX(slot);
+    }
+
+    @Override
+    public float getY() {
+        return store.getY(slot);
+    }
+
+    @Override
+    public float getRotation() {
+        return store.getRotation(slot);
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.moribund.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.github.moribund.MoribundClient;
+import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.flags.FlagProcessor;
+import com.github.moribund.objects.nonplayable.projectile.Projectile;
+import com.github.moribund.objects.nonplayable.projectile.ProjectileType;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.val;
+
+/**
+ * A {@code SyntheticWorld} fills the {@link MoribundClient#getWorld()} with {@link SyntheticPlayer}s and real
+ * {@link Projectile}s scattered over a square, which grows with the amount of entities so that they are as crowded
+ * in a small world as in a large one. Everything bounces off the edges of the square rather than leaving it, and the
+ * projectiles are never timed out, so the world stays the same for as long as it is stepped.
+ */
+final class SyntheticWorld {
+
+    /**
+     * The length of the side of the area each entity has to itself, which is a little over the size of a player.
+     */
+    private static final float SPACING = 160;
+
+    /**
+     * The distance a projectile moves each tick, which is about as fast as an arrow.
+     */
+    private static final float PROJECTILE_SPEED = 12;
+
+    private final MoribundClient client;
+    private final ObjectList<SyntheticPlayer> players;
+    private final ObjectList<Projectile> projectiles;
+
+    /**
+     * The coordinate of the bottom left corner of the square, on both axes.
+     */
+    private final float origin;
+
+    /**
+     * The length of the side of the square.
+     */
+    private final float size;
+
+    /**
+     * Makes a world with the bottom left corner of its square at the origin, starting the {@link HeadlessGame}
+     * should it not be running.
+     * @param playerCount The amount of players.
+     * @param projectileCount The amount of projectiles.
+     * @param seed The seed of where everything starts and which way it heads, so that every run is the same.
+     */
+    SyntheticWorld(int playerCount, int projectileCount, long seed) {
+        this(playerCount, projectileCount, seed, 0);
+    }
+
+    /**
+     * Makes a world, starting the {@link HeadlessGame} should it not be running.
+     * @param playerCount The amount of players.
+     * @param projectileCount The amount of projectiles.
+     * @param seed The seed of where everything starts and which way it heads, so that every run is the same.
+     * @param origin The coordinate of the bottom left corner of the square, on both axes, which can keep the square
+     *               clear of real players that the projectiles would otherwise hit and be removed by.
+     */
+    SyntheticWorld(int playerCount, int projectileCount, long seed, float origin) {
+        HeadlessGame.start();
+        client = MoribundClient.getInstance();
+        this.origin = origin;
+        players = new ObjectArrayList<>(playerCount);
+        projectiles = new ObjectArrayList<>(projectileCount);
+        size = sizeOf(playerCount, projectileCount);
+
+        val random = new RandomXS128(seed);
+        for (int i = 0; i < playerCount; i++) {
+            val horizontal = random.nextBoolean() ? Flag.MOVE_LEFT : Flag.MOVE_RIGHT;
+            val vertical = random.nextBoolean() ? Flag.MOVE_UP : Flag.MOVE_DOWN;
+            players.add(new SyntheticPlayer(origin + random.nextFloat() * size, origin + random.nextFloat() * size,
+                    horizontal | vertical, origin, size));
+        }
+        val types = ProjectileType.values();
+        for (int i = 0; i < projectileCount; i++) {
+            val projectile = Projectile.builder()
+                    .type(types[i % types.length])
+                    .atXY(origin + random.nextFloat() * size, origin + random.nextFloat() * size)
+                    .withAngle(random.nextFloat() * 360)
+                    .withMovementSpeed(PROJECTILE_SPEED)
+                    .create();
+            Projectile.launchProjectile(projectile);
+            projectiles.add(projectile);
+        }
+        client.getEntityCommands().flush();
+        updateCollisionGrid();
+    }
+
+    /**
+     * Gets the length of the side of the square of a world.
+     * @param playerCount The amount of players in the world.
+     * @param projectileCount The amount of projectiles in the world.
+     * @return The length of the side of the square.
+     */
+    static float sizeOf(int playerCount, int projectileCount) {
+        return (float) Math.sqrt(Math.max(playerCount, projectileCount)) * SPACING;
+    }
+
+    /**
+     * Steps the world by a tick in the same way as {@link com.github.moribund.simulation.Simulation#tick()}: the
+     * players move, the collision grid is brought up to date, and then the projectiles move and check for
+     * collisions.
+     */
+    void tick() {
+        val store = client.getEntityStore();
+        store.snapshot();
+        FlagProcessor.processAll(client.getFlaggables(), store);
+        updateCollisionGrid();
+        FlagProcessor.processAll(client.getProjectiles(), store);
+        bounceProjectiles();
+    }
+
+    /**
+     * Only enacts the movement flags of every entity, without checking for collisions.
+     */
+    void move() {
+        val store = client.getEntityStore();
+        val flaggables = client.getFlaggables();
+        for (int i = flaggables.size() - 1; i >= 0; i--) {
+            val flaggable = flaggables.get(i);
+            FlagProcessor.process(flaggable, store.getFlags(flaggable.getSlot()));
+        }
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).processFlags();
+        }
+        for (int i = 0; i < projectiles.size(); i++) {
+            val projectile = projectiles.get(i);
+            FlagProcessor.process(projectile, store.getFlags(projectile.getSlot()));
+        }
+        bounceProjectiles();
+    }
+
+    /**
+     * Gets the amount of times a projectile has hit a player.
+     * @return The amount of hits.
+     */
+    int getHits() {
+        int hits = 0;
+        for (int i = 0; i < players.size(); i++) {
+            hits += players.get(i).getHits();
+        }
+        return hits;
+    }
+
+    /**
+     * Takes everything back out of the world, leaving it empty for the next benchmark.
+     */
+    void dispose() {
+        HeadlessGame.clearWorld();
+    }
+
+    /**
+     * Reflects every projectile that has gone past an edge of the world and is still heading away from it.
+     */
+    private void bounceProjectiles() {
+        for (int i = 0; i < projectiles.size(); i++) {
+            val projectile = projectiles.get(i);
+            val x = projectile.getX() - origin;
+            val y = projectile.getY() - origin;
+            float rotation = projectile.getRotation();
+            val headingRight = MathUtils.cosDeg(rotation) > 0;
+            val headingUp = MathUtils.sinDeg(rotation) > 0;
+            if (x < 0 && !headingRight || x > size && headingRight) {
+                rotation = 180 - rotation;
+            }
+            if (y < 0 && !headingUp || y > size && headingUp) {
+                rotation = -rotation;
+            }
+            if (rotation != projectile.getRotation()) {
+                projectile.setRotation(rotation);
+            }
+        }
+    }
+
+    /**
+     * Moves every collidable into the cells of the collision grid that it now overlaps.
+     */
+    private void updateCollisionGrid() {
+        val collisionGrid = client.getCollisionGrid();
+        val collidables = client.getCollidables();
+        for (int i = 0; i < collidables.size(); i++) {
+            val collidable = collidables.get(i);
+            collisionGrid.update(collidable, collidable.getHitbox());
+        }
+    }
+}
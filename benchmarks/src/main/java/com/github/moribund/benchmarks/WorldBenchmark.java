@@ -0,0 +1,61 @@
+package com.github.moribund.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a tick of a {@link SyntheticWorld} of players and projectiles: the movement flags on their own, and the
+ * whole tick, in which every projectile also checks for collisions against the collision grid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int players;
+
+    @Param({"10", "100", "1000"})
+    public int projectiles;
+
+    private SyntheticWorld world;
+
+    @Setup
+    public void setUp() {
+        world = new SyntheticWorld(players, projectiles, 42);
+    }
+
+    @TearDown
+    public void tearDown() {
+        world.dispose();
+    }
+
+    /**
+     * Enacts the movement flags of every entity.
+     */
+    @Benchmark
+    public void movementFlags() {
+        world.move();
+    }
+
+    /**
+     * Moves every entity, checks every projectile for collisions, and updates the collision grid.
+     * @return The amount of hits so far, so that the collisions cannot be optimized away.
+     */
+    @Benchmark
+    public int tick() {
+        world.tick();
+        return world.getHits();
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * JMH benchmarks of the collision and movement hot path, run over synthetic worlds without a window or a GL context.
+ * They are run with {@code gradle :benchmarks:jmh}, which reports the ops/s and the allocation rate of each. The
+ * {@link com.github.moribund.benchmarks.HeadlessGame} is also what the allocation guard among the tests renders the
+ * game screen with, to check the bytes a frame allocates against a budget.
+ */
+package com.github.moribund.benchmarks;
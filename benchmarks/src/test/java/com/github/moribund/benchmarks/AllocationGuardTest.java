@@ -0,0 +1,175 @@
+package com.github.moribund.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+import com.esotericsoftware.kryo.Kryo;
+import com.github.moribund.MoribundClient;
+import com.github.moribund.net.packets.IncomingPacket;
+import com.github.moribund.net.packets.game.GameStatePacket;
+import com.github.moribund.profiling.AllocationCounter;
+import com.github.moribund.profiling.Phase;
+import com.github.moribund.profiling.Timeline;
+import com.github.moribund.screens.game.GameScreenFactory;
+import lombok.extern.java.Log;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Fails should a frame of steady-state gameplay allocate more than its budget. A frame here is everything the game
+ * does in one: applying a {@link GameStatePacket} of every player the server knows of, stepping a
+ * {@link SyntheticWorld} of moving players and projectiles by a tick, and then rendering the
+ * {@link com.github.moribund.screens.game.GameScreen} through the {@link HeadlessGame}'s GL, which draws the world,
+ * the HUD of the player, and hands the moving mouse to the player to face. The frames are timed into a
+ * {@link Timeline} that counts allocations, in the same way as the {@link com.github.moribund.profiling.FrameProfiler}
+ * does in the game, and after a warm-up the 99th percentile of the bytes a frame allocates is checked against the
+ * budget. The bytes of each phase are logged, with the render being what is left of the frame outside of them.
+ * <p>
+ * The synthetic world is placed below and to the left of the players the server sends the state of, which keeps
+ * every projectile in it flying, and the camera follows the player of the client, which sees a corner of it.
+ * The screen is rendered with no time passing, so that the {@link com.github.moribund.simulation.Simulation} never
+ * ticks on its own and sends nothing to a server; the world is stepped by the synthetic world instead. The budget, in
+ * bytes a frame, is set with {@code -Pallocation.budget}. As the {@link HeadlessGame} runs what is posted through a
+ * proxy, the budget also covers the small arrays the proxy allocates for each change that is posted.
+ */
+@Log
+public class AllocationGuardTest {
+
+    /**
+     * The system property of the most bytes a frame may allocate.
+     */
+    private static final String BUDGET_PROPERTY = "moribund.allocationGuard.budget";
+
+    /**
+     * The budget, in bytes a frame, should none be set.
+     */
+    private static final long DEFAULT_BUDGET = 16 * 1024;
+
+    /**
+     * The amount of players the server sends the state of.
+     */
+    private static final int PLAYERS = 100;
+
+    /**
+     * The amount of synthetic players and projectiles in the world.
+     */
+    private static final int ENTITIES = 100;
+
+    /**
+     * The gap between the square of the synthetic world and the origin, beyond which the players the server sends
+     * the state of all stand, so that no projectile ever hits one of them and is removed.
+     */
+    private static final float CLEARANCE = 100;
+
+    /**
+     * The frames run before any are measured, so that the JIT has compiled the hot path.
+     */
+    private static final int WARMUP_FRAMES = 20_000;
+
+    /**
+     * The frames measured.
+     */
+    private static final int MEASURED_FRAMES = 600;
+
+    private SyntheticWorld world;
+    private Screen screen;
+    private Input input;
+    private CirclingMouse mouse;
+    private IncomingPacket gameState;
+
+    @Before
+    public void setUp() {
+        assumeTrue("This JVM does not count allocations", AllocationCounter.isSupported());
+        world = new SyntheticWorld(ENTITIES, ENTITIES, 1, -SyntheticWorld.sizeOf(ENTITIES, ENTITIES) - CLEARANCE);
+        input = Gdx.input;
+        mouse = new CirclingMouse();
+        Gdx.input = mouse;
+
+        val kryo = new Kryo();
+        SamplePackets.register(kryo);
+        val samples = new SamplePackets(kryo, PLAYERS);
+        ApplyBenchmark.makeCreateNewPlayer(samples).process();
+        MoribundClient.getInstance().getEntityCommands().flush();
+        gameState = (IncomingPacket) samples.make(GameStatePacket.class, 0);
+        screen = new GameScreenFactory().createScreen();
+    }
+
+    @After
+    public void tearDown() {
+        if (screen != null) {
+            screen.dispose();
+        }
+        if (world != null) {
+            world.dispose();
+            Gdx.input = input;
+        }
+    }
+
+    @Test
+    public void frameIsWithinBudget() {
+        val budget = Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET);
+        val frames = new Timeline("allocation guard", true, true, MEASURED_FRAMES);
+        for (int i = 0; i < WARMUP_FRAMES + MEASURED_FRAMES; i++) {
+            frames.beginSample();
+            frames.begin(Phase.PACKETS);
+            gameState.process();
+            frames.end(Phase.PACKETS);
+            frames.begin(Phase.SIMULATE);
+            world.tick();
+            frames.end(Phase.SIMULATE);
+            mouse.move();
+            screen.render(0);
+            frames.endSample();
+        }
+
+        log.info(frames.getReport());
+        val allocated = frames.allocationPercentile(0.99);
+        assertTrue("A frame allocates " + allocated + " bytes at the 99th percentile, over the budget of " + budget
+                + " bytes", allocated <= budget);
+    }
+
+    /**
+     * A mouse that moves a little around a circle in the middle of the screen every frame, so that the player turns to
+     * face it every frame.
+     */
+    private static final class CirclingMouse extends MockInput {
+
+        /**
+         * The distance of the mouse from the middle of the screen.
+         */
+        private static final float RADIUS = 200;
+
+        /**
+         * The angle the mouse moves around the circle by every frame, in radians.
+         */
+        private static final float STEP = 0.05f;
+
+        /**
+         * The angle of the mouse around the circle, in radians.
+         */
+        private float angle;
+
+        /**
+         * Moves the mouse on around the circle.
+         */
+        void move() {
+            angle += STEP;
+        }
+
+        @Override
+        public int getX() {
+            return (int) (HeadlessGame.SCREEN_WIDTH / 2 + RADIUS * Math.cos(angle));
+        }
+
+        @Override
+        public int getY() {
+            return (int) (HeadlessGame.SCREEN_HEIGHT / 2 + RADIUS * Math.sin(angle));
+        }
+    }
+}
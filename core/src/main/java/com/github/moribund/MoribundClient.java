@@ -7,17 +7,23 @@ import com.github.moribund.graphics.animations.AnimationContainer;
 import com.github.moribund.graphics.drawables.DrawableGameAsset;
 import com.github.moribund.graphics.drawables.DrawableUIAsset;
 import com.github.moribund.graphics.fonts.FontContainer;
+import com.github.moribund.graphics.hud.Hud;
 import com.github.moribund.graphics.sprites.SpriteContainer;
 import com.github.moribund.net.NetworkBootstrapper;
 import com.github.moribund.net.PacketDispatcher;
+import com.github.moribund.objects.attributes.Collidable;
 import com.github.moribund.objects.attributes.Flaggable;
+import com.github.moribund.objects.collision.SpatialHashGrid;
+import com.github.moribund.objects.entities.EntityCommandBuffer;
+import com.github.moribund.objects.entities.EntityStore;
+import com.github.moribund.objects.entities.HandleArray;
+import com.github.moribund.objects.entities.World;
 import com.github.moribund.objects.nonplayable.items.GroundItem;
+import com.github.moribund.objects.nonplayable.projectile.Projectile;
 import com.github.moribund.objects.playable.players.PlayableCharacter;
 import com.github.moribund.screens.login.LoginScreenFactory;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectArrayList;
-import it.unimi.dsi.fastutil.objects.ObjectList;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.java.Log;
@@ -36,19 +42,98 @@ public class MoribundClient extends Game {
      */
     private static MoribundClient instance;
 
+    /**
+     * The amount of times the world is simulated per second, no matter the frame rate. Movement speeds are given in
+     * pixels per tick.
+     */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /**
+     * The length of a single tick, in seconds.
+     */
+    public static final float SECONDS_PER_TICK = 1f / TICKS_PER_SECOND;
+
+    /**
+     * The size of the cells in the {@link MoribundClient#collisionGrid}, which is around the size of a player.
+     */
+    private static final float COLLISION_CELL_SIZE = 128;
+
+    /**
+     * The size of the cells in the {@link MoribundClient#groundItemGrid}, which is around the size of a player, as
+     * it is queried with a player's bounds.
+     */
+    private static final float GROUND_ITEM_CELL_SIZE = 128;
+
     /**
      * All the {@link PlayableCharacter}s in the game.
      */
     @Getter
     private final Int2ObjectMap<PlayableCharacter> players;
+    /**
+     * The registry of every entity in the game, which keeps the views below up to date.
+     */
+    @Getter
+    private final World world;
+    /**
+     * The {@link GroundItem}s in the game, keyed by their handles in the {@link MoribundClient#entityStore}. These
+     * are drawn before the {@link MoribundClient#drawableGameAssets}, so that they are always beneath them.
+     */
+    @Getter
+    private final HandleArray<GroundItem> groundItems;
+    /**
+     * The {@link GroundItem}s in the game, keyed by the IDs the server has given them.
+     */
+    @Getter
+    private final Int2ObjectMap<GroundItem> groundItemsById;
+    /**
+     * The grid of every {@link GroundItem} in the game, used to find what a player is standing over.
+     */
+    @Getter
+    private final SpatialHashGrid<GroundItem> groundItemGrid;
+    /**
+     * The {@link DrawableGameAsset}s in the game apart from the {@link GroundItem}s, keyed by their handles in the
+     * {@link MoribundClient#entityStore}.
+     */
+    @Getter
+    private final HandleArray<DrawableGameAsset> drawableGameAssets;
+    /**
+     * The {@link DrawableUIAsset}s drawn over the game, in their layers.
+     */
+    @Getter
+    private final Hud hud;
+    /**
+     * The {@link Flaggable}s in the game apart from the {@link Projectile}s, keyed by their handles in the
+     * {@link MoribundClient#entityStore}. The projectiles are processed on their own, once everything else has moved
+     * and the {@link MoribundClient#collisionGrid} has been brought up to date.
+     */
+    @Getter
+    private final HandleArray<Flaggable> flaggables;
+    /**
+     * The {@link Collidable}s in the game, keyed by their handles in the {@link MoribundClient#entityStore}.
+     */
     @Getter
-    private final ObjectList<GroundItem> groundItems;
+    private final HandleArray<Collidable> collidables;
+    /**
+     * The {@link Projectile}s in the game, keyed by their handles in the {@link MoribundClient#entityStore}.
+     */
     @Getter
-    private final ObjectList<DrawableGameAsset> drawableGameAssets;
+    private final HandleArray<Projectile> projectiles;
+    /**
+     * The positions, rotations, and velocities of every entity in the game.
+     */
     @Getter
-    private final ObjectList<DrawableUIAsset> drawableUIAssets;
+    private final EntityStore entityStore;
+    /**
+     * The buffer that every addition to and removal from the {@link HandleArray}s is recorded into, to be applied at
+     * set points in the tick.
+     */
+    @Getter
+    private final EntityCommandBuffer entityCommands;
+    /**
+     * The broad-phase grid of every {@link Collidable} in the game, used to find what a projectile could hit.
+     */
     @Getter
-    private final ObjectList<Flaggable> flaggables;
+    private final SpatialHashGrid<Collidable> collisionGrid;
     /**
      * The network bootstrapper to start networking.
      */
@@ -73,10 +158,18 @@ public class MoribundClient extends Game {
         this.networkBootstrapper = networkBootstrapper;
         this.packetDispatcher = packetDispatcher;
         players = new Int2ObjectOpenHashMap<>();
-        drawableGameAssets = new ObjectArrayList<>();
-        drawableUIAssets = new ObjectArrayList<>();
-        flaggables = new ObjectArrayList<>();
-        groundItems = new ObjectArrayList<>();
+        entityStore = new EntityStore();
+        entityCommands = new EntityCommandBuffer();
+        world = new World(entityCommands);
+        drawableGameAssets = world.view(DrawableGameAsset.class, GroundItem.class);
+        flaggables = world.view(Flaggable.class, Projectile.class);
+        collidables = world.view(Collidable.class);
+        projectiles = world.view(Projectile.class);
+        groundItems = world.view(GroundItem.class);
+        hud = new Hud();
+        groundItemsById = new Int2ObjectOpenHashMap<>();
+        groundItemGrid = new SpatialHashGrid<>(GROUND_ITEM_CELL_SIZE);
+        collisionGrid = new SpatialHashGrid<>(COLLISION_CELL_SIZE);
     }
 
     /**
@@ -153,10 +246,12 @@ public class MoribundClient extends Game {
     @Override
     public void dispose() {
         players.clear();
-        groundItems.clear();
-        drawableGameAssets.clear();
-        drawableUIAssets.clear();
-        flaggables.clear();
+        world.clear();
+        hud.clear();
+        hud.dispose();
+        entityStore.clear();
+        collisionGrid.clear();
         player = null;
+        networkBootstrapper.disconnect();
     }
 }
\ No newline at end of file
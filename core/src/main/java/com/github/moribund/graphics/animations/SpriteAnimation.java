@@ -1,17 +1,19 @@
 package com.github.moribund.graphics.animations;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import com.github.moribund.simulation.FrameClock;
 import lombok.Getter;
 import lombok.val;
 
 /**
- * A custom class for an {@link Animation<TextureRegion>} that keeps track of if the animation is currently playing
- * and allows for post-runnable actions when an animation finished.
+ * A custom class for an {@link Animation<TextureRegion>} that keeps track of if the animation is currently playing.
+ * Anything that should happen once an animation has finished is scheduled on the
+ * {@link com.github.moribund.simulation.TimerWheel} for {@link SpriteAnimation#getTimeToLastFrame()} ahead, rather
+ * than waiting on the animation to be drawn.
  */
 public class SpriteAnimation extends Animation<TextureRegion> {
 
@@ -26,11 +28,6 @@ public class SpriteAnimation extends Animation<TextureRegion> {
      */
     private boolean playing;
 
-    /**
-     * The post-runnable action to invoke once the animation has been complete.
-     */
-    private Runnable whenEnded;
-
     /**
      * Creates a {@code SpriteAnimation} given a particular duration and the frames.
      * @param frameDuration The value between 0 and 1 for the duration of the animation.
@@ -47,7 +44,7 @@ public class SpriteAnimation extends Animation<TextureRegion> {
      * @param originalSprite The original sprite to mock the location and rotation of.
      */
     public void drawAnimation(Batch batch, Sprite originalSprite) {
-        stateTime += Gdx.graphics.getDeltaTime();
+        stateTime += FrameClock.getInstance().getFrameDelta();
         val currentFrame = getKeyFrame(stateTime, false);
 
         batch.draw(currentFrame, originalSprite.getX(), originalSprite.getY(),
@@ -62,21 +59,18 @@ public class SpriteAnimation extends Animation<TextureRegion> {
     }
 
     /**
-     * Sets the post-runnable action to perform after the sprite animation is complete.
-     * @param runnable The action to perform.
+     * Gets the time from the start of the animation to its last frame being shown, which is when it counts as
+     * finished.
+     * @return The time in seconds.
      */
-    public void whenEnded(Runnable runnable) {
-        whenEnded = runnable;
+    public float getTimeToLastFrame() {
+        return (getKeyFrames().length - 1) * getFrameDuration();
     }
 
     /**
      * Completes the animation by resetting all the variables to allow for reusability.
      */
     public void end() {
-        if (whenEnded != null) {
-            whenEnded.run();
-        }
-        whenEnded = null;
         playing = true;
         stateTime = 0f;
     }
@@ -1,12 +1,26 @@
 package com.github.moribund.graphics.drawables;
 
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.github.moribund.objects.attributes.Stored;
+
 /**
  * A {@code DrawableGameAsset} is a game asset that is drawn with respect to the Orthographic camera.
  * The {@link com.badlogic.gdx.graphics.g2d.SpriteBatch} passed in is the
  * {@link com.github.moribund.screens.game.GameScreen#gameBatch}.
+ * <p>
+ * Game assets are drawn by the render thread from the {@link com.github.moribund.objects.entities.RenderState},
+ * while the simulation goes on changing them, so an asset is drawn from the slot it had when the state was
+ * published rather than from the slot it has now, which a pooled asset may already have been given anew.
  *
  * @implNote All {@code DrawableGameAsset}s that wish to be displayed as a game asset go to
  * {@link com.github.moribund.MoribundClient#drawableGameAssets}.
  */
-public interface DrawableGameAsset extends Drawable {
+public interface DrawableGameAsset extends Stored {
+    /**
+     * Draws the asset onto the screen as it was at the tick being drawn.
+     * @param batch The {@link Batch} to draw {@link com.badlogic.gdx.graphics.g2d.Sprite}s to.
+     * @param slot The slot the asset had in the {@link com.github.moribund.objects.entities.EntityStore} when the
+     *             tick was published.
+     */
+    void draw(Batch batch, int slot);
 }
@@ -5,8 +5,8 @@ package com.github.moribund.graphics.drawables;
  * The {@link com.badlogic.gdx.graphics.g2d.SpriteBatch} passed in is the
  * {@link com.github.moribund.screens.game.GameScreen#uiBatch}.
  *
- * @implNote All {@code DrawableUIAsset}s that wish to be displayed as a UI asset go to
- * {@link com.github.moribund.MoribundClient#drawableUIAssets}.
+ * @implNote All {@code DrawableUIAsset}s that wish to be displayed as a UI asset are added to a layer of the
+ * {@link com.github.moribund.MoribundClient#getHud()}, and removed from it once they are no longer to be drawn.
  */
 public interface DrawableUIAsset extends Drawable {
 }
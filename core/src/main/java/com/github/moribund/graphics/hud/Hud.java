@@ -0,0 +1,215 @@
+package com.github.moribund.graphics.hud;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Matrix4;
+import com.github.moribund.graphics.drawables.DrawableUIAsset;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.val;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The {@code Hud} is every {@link DrawableUIAsset} drawn over the game, each in a {@link HudLayer}. An asset is
+ * drawn from when it is {@link Hud#add added} until it is {@link Hud#remove removed}, and adding an asset that is
+ * already in the HUD does nothing, so it is never drawn twice.
+ * <p>
+ * Assets are added and removed from whichever thread a packet comes in on, and even by themselves as they are drawn,
+ * so the changes are queued and only made at the start of the next {@link Hud#draw(Batch)}.
+ * <p>
+ * The {@link StaticHudPart} of every asset that has one is drawn from a {@link SpriteCache}, which is only built
+ * again when such an asset is added or removed. The HUD is laid out in the size the screen was when the UI batch was
+ * made, and the projection of that batch is never changed, so resizing the window scales the HUD rather than moving
+ * anything in it, and the cache does not need to be built again. The cache is only made the first time it is drawn,
+ * so the HUD can be made without a GL context.
+ */
+public final class Hud {
+
+    /**
+     * The most sprites the static parts can have between them.
+     */
+    private static final int CACHE_SIZE = 64;
+
+    /**
+     * The assets of each layer, in the order they were added.
+     */
+    private final ObjectList<ObjectList<DrawableUIAsset>> layers;
+
+    /**
+     * The static parts of the assets, in the order they were added.
+     */
+    private final ObjectList<StaticHudPart> staticParts;
+
+    /**
+     * The additions and removals waiting for the next draw.
+     */
+    private final Queue<Runnable> pending;
+
+    /**
+     * The cache the static parts are drawn from, once it has been made.
+     */
+    private SpriteCache cache;
+
+    /**
+     * The ID of the static parts in the {@link Hud#cache}.
+     */
+    private int cacheId;
+
+    /**
+     * If the static parts are to be cached again before they are next drawn.
+     */
+    private boolean dirty;
+
+    /**
+     * Makes an empty HUD.
+     */
+    public Hud() {
+        layers = new ObjectArrayList<>(HudLayer.VALUES.length);
+        for (int i = 0; i < HudLayer.VALUES.length; i++) {
+            layers.add(new ObjectArrayList<>());
+        }
+        staticParts = new ObjectArrayList<>();
+        pending = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Adds an asset to be drawn in a layer from the next frame on. This is safe to call from any thread.
+     * @param layer The layer of the asset.
+     * @param asset The asset to add, which is not added again should it already be in the HUD.
+     */
+    public void add(HudLayer layer, DrawableUIAsset asset) {
+        pending.add(() -> {
+            if (contains(asset)) {
+                return;
+            }
+            layers.get(layer.ordinal()).add(asset);
+            if (asset instanceof StaticHudPart) {
+                staticParts.add((StaticHudPart) asset);
+                dirty = true;
+            }
+        });
+    }
+
+    /**
+     * Removes an asset from the next frame on. This is safe to call from any thread, including from the asset's own
+     * {@link DrawableUIAsset#draw(Batch)}.
+     * @param asset The asset to remove.
+     */
+    public void remove(DrawableUIAsset asset) {
+        pending.add(() -> {
+            for (val layer : layers) {
+                layer.remove(asset);
+            }
+            if (asset instanceof StaticHudPart && staticParts.remove(asset)) {
+                dirty = true;
+            }
+        });
+    }
+
+    /**
+     * Removes every asset of a type from the next frame on, such as the text of a previous winner. This is safe to
+     * call from any thread.
+     * @param type The type of asset to remove.
+     */
+    public void removeAll(Class<? extends DrawableUIAsset> type) {
+        pending.add(() -> {
+            for (val layer : layers) {
+                layer.removeIf(type::isInstance);
+            }
+            if (staticParts.removeIf(type::isInstance)) {
+                dirty = true;
+            }
+        });
+    }
+
+    /**
+     * Removes every asset straight away, along with any waiting to be added, as is done when a game ends. This is
+     * only to be called on the render thread.
+     */
+    public void clear() {
+        pending.clear();
+        for (val layer : layers) {
+            layer.clear();
+        }
+        staticParts.clear();
+        dirty = true;
+    }
+
+    /**
+     * Makes the queued additions and removals, then draws the static parts followed by every layer. The batch is
+     * begun and ended here, as the static parts are drawn outside of it.
+     * @param batch The batch of the UI, which has not been begun.
+     */
+    public void draw(Batch batch) {
+        Runnable change;
+        while ((change = pending.poll()) != null) {
+            change.run();
+        }
+
+        if (!staticParts.isEmpty()) {
+            drawStaticParts(batch.getProjectionMatrix());
+        }
+        batch.begin();
+        for (int i = 0; i < layers.size(); i++) {
+            val layer = layers.get(i);
+            for (int j = 0; j < layer.size(); j++) {
+                layer.get(j).draw(batch);
+            }
+        }
+        batch.end();
+    }
+
+    /**
+     * Draws the static parts from the cache, building it again first should it be dirty.
+     * @param projection The projection of the UI.
+     */
+    private void drawStaticParts(Matrix4 projection) {
+        if (cache == null) {
+            cache = new SpriteCache(CACHE_SIZE, false);
+            dirty = true;
+        }
+        if (dirty) {
+            cache.clear();
+            cache.beginCache();
+            for (int i = 0; i < staticParts.size(); i++) {
+                staticParts.get(i).cache(cache);
+            }
+            cacheId = cache.endCache();
+            dirty = false;
+        }
+        // unlike a batch, the cache leaves blending to its caller
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        cache.draw(cacheId);
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    /**
+     * Checks if an asset is in any layer.
+     */
+    private boolean contains(DrawableUIAsset asset) {
+        for (int i = 0; i < layers.size(); i++) {
+            if (layers.get(i).contains(asset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Frees the cache, should it have been made.
+     */
+    public void dispose() {
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+    }
+}
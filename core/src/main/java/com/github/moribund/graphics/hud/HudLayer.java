@@ -0,0 +1,30 @@
+package com.github.moribund.graphics.hud;
+
+/**
+ * A {@code HudLayer} is a layer of the {@link Hud}. The layers are drawn in the order they are declared, each over
+ * the last, and every {@link StaticHudPart} is drawn beneath all of them.
+ */
+public enum HudLayer {
+    /**
+     * The items in the inventory and the equipment.
+     */
+    CONTAINERS,
+    /**
+     * Bars that fill up and empty, such as the health bar.
+     */
+    BARS,
+    /**
+     * Text, such as the timers.
+     */
+    TEXT,
+    /**
+     * Anything over the rest of the UI, such as the text of the winner and the profiler.
+     */
+    OVERLAY;
+
+    /**
+     * All the values of the {@code HudLayer} enum. This field is here to save memory, as {@link HudLayer#values()}
+     * makes a new array every time it is called.
+     */
+    public static final HudLayer[] VALUES = values();
+}
@@ -0,0 +1,19 @@
+package com.github.moribund.graphics.hud;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+
+/**
+ * A {@code StaticHudPart} is a part of a {@link com.github.moribund.graphics.drawables.DrawableUIAsset} that looks
+ * the same every frame, such as the frames of the inventory slots. When the asset is added to the {@link Hud}, its
+ * static part is put into a {@link SpriteCache} that is drawn beneath every {@link HudLayer}, and it is only put into
+ * the cache again when a static part is added to or removed from the {@link Hud}, so the asset itself only draws what
+ * changes.
+ */
+public interface StaticHudPart {
+
+    /**
+     * Adds the sprites of the static part to a cache that is being built.
+     * @param cache The cache, which is between {@link SpriteCache#beginCache()} and {@link SpriteCache#endCache()}.
+     */
+    void cache(SpriteCache cache);
+}
@@ -0,0 +1,5 @@
+/**
+ * Classes that keep the UI drawn over the game: the layers it is drawn in, and the cache of its parts that never
+ * change.
+ */
+package com.github.moribund.graphics.hud;
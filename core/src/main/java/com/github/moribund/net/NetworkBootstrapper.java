@@ -3,6 +3,9 @@ package com.github.moribund.net;
 import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.serializers.JavaSerializer;
 import com.esotericsoftware.kryonet.Client;
+import com.github.moribund.net.impairment.ImpairmentProxy;
+import com.github.moribund.net.impairment.ImpairmentScript;
+import com.github.moribund.net.impairment.SmoothnessMonitor;
 import com.github.moribund.net.packets.account.CreateNewPlayerPacket;
 import com.github.moribund.net.packets.account.CreateNewPlayerRequestPacket;
 import com.github.moribund.net.packets.account.DrawNewPlayerPacket;
@@ -23,13 +26,17 @@ import com.github.moribund.net.packets.movement.RotationPacket;
 import com.github.moribund.objects.nonplayable.items.ItemType;
 import it.unimi.dsi.fastutil.objects.ObjectList;
 import lombok.Getter;
+import lombok.extern.java.Log;
+import lombok.val;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 
 /**
  * The {@code NetworkBootstrapper} class is responsible for giving the
  * initial instructions to start the networking process and listeners.
  */
+@Log
 public class NetworkBootstrapper {
     /**
      * The timeout timeout time for the initial connection.
@@ -43,6 +50,11 @@ public class NetworkBootstrapper {
      * The port to access.
      */
     private static final int PORT = 43594;
+    /**
+     * The system property that points to an {@link ImpairmentScript} file. When it is set, the client connects
+     * through an {@link ImpairmentProxy} that impairs the network as the script says.
+     */
+    private static final String IMPAIRMENT_PROPERTY = "moribund.impairment";
 
     /**
      * The {@code KryoNet} connection client.
@@ -50,11 +62,23 @@ public class NetworkBootstrapper {
     @Getter
     private final Client client;
 
+    /**
+     * The listener of the packets the server sends.
+     */
+    private final ClientListener listener;
+
+    /**
+     * The proxy impairing the network, or null should the network not be impaired.
+     */
+    @Getter
+    private ImpairmentProxy impairmentProxy;
+
     /**
      * Allows for a creation of the connection client.
      */
     public NetworkBootstrapper() {
         client = new Client();
+        listener = new ClientListener();
     }
 
     /**
@@ -63,19 +87,55 @@ public class NetworkBootstrapper {
      * {@link com.esotericsoftware.kryonet.Connection}.
      */
     public void connect() throws IOException {
-        client.addListener(new ClientListener());
+        client.addListener(listener);
         registerPackets(client.getKryo());
 
         client.start();
-        client.connect(INITIAL_TIMEOUT, IP_ADDRESS, PORT, PORT);
+        val impairmentScript = System.getProperty(IMPAIRMENT_PROPERTY);
+        if (impairmentScript != null) {
+            connectImpaired(ImpairmentScript.load(Paths.get(impairmentScript)));
+        } else {
+            client.connect(INITIAL_TIMEOUT, IP_ADDRESS, PORT, PORT);
+        }
+    }
+
+    /**
+     * Connects to the {@link com.esotericsoftware.kryonet.Server} through an {@link ImpairmentProxy} and enables
+     * the {@link SmoothnessMonitor} so that the effects of the impairment can be measured.
+     * @param script The script of profiles to impair the network with.
+     */
+    private void connectImpaired(ImpairmentScript script) throws IOException {
+        impairmentProxy = new ImpairmentProxy(IP_ADDRESS, PORT, PORT, script);
+        impairmentProxy.start();
+        SmoothnessMonitor.getInstance().setEnabled(true);
+        client.connect(INITIAL_TIMEOUT, IP_ADDRESS, impairmentProxy.getTcpPort(), impairmentProxy.getUdpPort());
+    }
+
+    /**
+     * Disconnects from the {@link com.esotericsoftware.kryonet.Server} as the game closes, then closes the
+     * {@link ImpairmentProxy} should there be one, which logs what it did to the traffic. The listener is removed
+     * first, so that closing the connection is not taken for the server having gone down.
+     */
+    public void disconnect() {
+        client.removeListener(listener);
+        client.stop();
+        if (impairmentProxy != null) {
+            try {
+                impairmentProxy.close();
+            } catch (IOException e) {
+                log.warning("Unable to close the impairment proxy: " + e.getMessage());
+            }
+            impairmentProxy = null;
+        }
     }
 
     /**
      * Registers packets that are serialized by {@link Kryo}. Packets
      * are NOT required to implement {@link Kryo} or {@link com.esotericsoftware.kryo.KryoSerializable}.
+     * The benchmarks register the packets through here as well, so that they serialize exactly what the game does.
      * @param kryo The {@link Client}'s {@link Kryo}.
      */
-    private void registerPackets(Kryo kryo) {
+    public static void registerPackets(Kryo kryo) {
         kryo.register(DrawNewPlayerPacket.class);
         kryo.register(CreateNewPlayerPacket.class);
         kryo.register(CreateNewPlayerRequestPacket.class);
@@ -0,0 +1,66 @@
+package com.github.moribund.net.impairment;
+
+import lombok.val;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@code ImpairedLink} is one direction of traffic through the {@link ImpairmentProxy}. It works out when a
+ * given amount of bytes should arrive at the other end, taking the bandwidth cap, latency, and jitter of the
+ * active {@link ImpairmentProfile} into account.
+ */
+final class ImpairedLink {
+
+    /**
+     * The time, in {@link System#nanoTime()}, that the link is free to start sending the next bytes.
+     */
+    private long nextFree;
+
+    /**
+     * The delivery time of the last bytes scheduled, used to keep ordered traffic ordered.
+     */
+    private long lastDelivery;
+
+    /**
+     * Schedules bytes to be delivered through the link.
+     * @param bytes The amount of bytes being sent.
+     * @param profile The profile to impair the bytes with.
+     * @param ordered If the bytes must not arrive before bytes that were scheduled before them, as is the case
+     *                for TCP streams.
+     * @return The time, in {@link System#nanoTime()}, that the bytes should be delivered at.
+     */
+    synchronized long scheduleDelivery(int bytes, ImpairmentProfile profile, boolean ordered) {
+        val now = System.nanoTime();
+        long sendTime = now;
+        if (profile.getBandwidth() > 0) {
+            val transmissionTime = TimeUnit.SECONDS.toNanos(bytes) / profile.getBandwidth();
+            nextFree = Math.max(now, nextFree) + transmissionTime;
+            sendTime = nextFree;
+        }
+
+        long delay = TimeUnit.MILLISECONDS.toNanos(profile.getLatency());
+        if (profile.getJitter() > 0) {
+            delay += ThreadLocalRandom.current().nextLong(TimeUnit.MILLISECONDS.toNanos(profile.getJitter()) + 1);
+        }
+
+        long delivery = sendTime + delay;
+        if (ordered && delivery < lastDelivery) {
+            delivery = lastDelivery;
+        }
+        lastDelivery = Math.max(lastDelivery, delivery);
+        return delivery;
+    }
+
+    /**
+     * Blocks the current thread until a given delivery time.
+     * @param delivery The time, in {@link System#nanoTime()}, to wait until.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    static void waitUntil(long delivery) throws InterruptedException {
+        long remaining;
+        while ((remaining = delivery - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
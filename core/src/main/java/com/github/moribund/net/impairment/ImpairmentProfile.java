@@ -0,0 +1,50 @@
+package com.github.moribund.net.impairment;
+
+import lombok.Value;
+
+/**
+ * An {@code ImpairmentProfile} describes how bad the network between the client and the server should appear to
+ * be while it is active. Latencies are one-way and are in milliseconds, rates are probabilities between 0 and 1
+ * applied to each datagram, and the bandwidth is in bytes per second (0 for unlimited).
+ *
+ * @implNote Loss, reordering, and duplication are only meaningful to UDP traffic. TCP traffic through the
+ * {@link ImpairmentProxy} is a byte stream, so it only ever experiences latency, jitter, and bandwidth caps.
+ */
+@Value
+public class ImpairmentProfile {
+
+    /**
+     * A profile that does not impair the network at all.
+     */
+    public static final ImpairmentProfile NONE = new ImpairmentProfile(0, 0, 0, 0, 0, 0);
+
+    /**
+     * The one-way latency added to every packet.
+     */
+    private int latency;
+
+    /**
+     * The maximum amount of random latency added on top of {@link ImpairmentProfile#latency}.
+     */
+    private int jitter;
+
+    /**
+     * The chance of a datagram being dropped.
+     */
+    private float lossRate;
+
+    /**
+     * The chance of a datagram being held back so that the datagrams after it arrive first.
+     */
+    private float reorderRate;
+
+    /**
+     * The chance of a datagram being delivered twice.
+     */
+    private float duplicateRate;
+
+    /**
+     * The maximum bytes per second let through in each direction, or 0 for unlimited.
+     */
+    private int bandwidth;
+}
@@ -0,0 +1,371 @@
+package com.github.moribund.net.impairment;
+
+import lombok.Getter;
+import lombok.extern.java.Log;
+import lombok.val;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.*;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+/**
+ * The {@code ImpairmentProxy} sits between the {@link com.esotericsoftware.kryonet.Client} and the
+ * {@link com.esotericsoftware.kryonet.Server} and makes the network between them as bad as the active
+ * {@link ImpairmentProfile} of its {@link ImpairmentScript} says. The client connects to the
+ * {@link ImpairmentProxy#tcpPort} and {@link ImpairmentProxy#udpPort} of the proxy rather than the server, and
+ * the proxy relays everything to the server and back.
+ * <p>
+ * The proxy only relays a single client, which is all the {@link com.github.moribund.net.NetworkBootstrapper}
+ * ever needs.
+ */
+@Log
+public final class ImpairmentProxy implements Closeable {
+
+    /**
+     * The largest datagram that can be relayed.
+     */
+    private static final int MAXIMUM_DATAGRAM_SIZE = 65535;
+
+    /**
+     * The size of the chunks read from TCP streams.
+     */
+    private static final int STREAM_CHUNK_SIZE = 8192;
+
+    /**
+     * The address of the server being relayed to.
+     */
+    private final String targetHost;
+
+    /**
+     * The TCP port of the server being relayed to.
+     */
+    private final int targetTcpPort;
+
+    /**
+     * The UDP port of the server being relayed to.
+     */
+    private final int targetUdpPort;
+
+    /**
+     * The script deciding which profile is active.
+     */
+    private final ImpairmentScript script;
+
+    /**
+     * What the proxy has done to the traffic so far.
+     */
+    @Getter
+    private final ImpairmentStatistics statistics;
+
+    /**
+     * Delivers the delayed UDP datagrams.
+     */
+    private final ScheduledExecutorService datagramScheduler;
+
+    /**
+     * The socket the client connects to over TCP.
+     */
+    private ServerSocket tcpServerSocket;
+
+    /**
+     * The socket the client sends UDP datagrams to.
+     */
+    private DatagramSocket clientDatagramSocket;
+
+    /**
+     * The socket that relays UDP datagrams to the server.
+     */
+    private DatagramSocket serverDatagramSocket;
+
+    /**
+     * The TCP sockets to the client and to the server that are being relayed between, so that they can be closed
+     * along with the proxy.
+     */
+    private final Queue<Socket> relayedSockets;
+
+    /**
+     * The address the client last sent a UDP datagram from.
+     */
+    private volatile SocketAddress clientDatagramAddress;
+
+    /**
+     * The time, in {@link System#nanoTime()}, the proxy was started.
+     */
+    private long startTime;
+
+    /**
+     * The local TCP port the client should connect to.
+     */
+    @Getter
+    private int tcpPort;
+
+    /**
+     * The local UDP port the client should connect to.
+     */
+    @Getter
+    private int udpPort;
+
+    /**
+     * Makes a proxy that relays to a server once it is started.
+     * @param targetHost The address of the server.
+     * @param targetTcpPort The TCP port of the server.
+     * @param targetUdpPort The UDP port of the server.
+     * @param script The script of profiles to impair the network with.
+     */
+    public ImpairmentProxy(String targetHost, int targetTcpPort, int targetUdpPort, ImpairmentScript script) {
+        this.targetHost = targetHost;
+        this.targetTcpPort = targetTcpPort;
+        this.targetUdpPort = targetUdpPort;
+        this.script = script;
+        statistics = new ImpairmentStatistics();
+        relayedSockets = new ConcurrentLinkedQueue<>();
+        datagramScheduler = Executors.newSingleThreadScheduledExecutor(
+                runnable -> daemon(runnable, "impairment-udp-delivery"));
+    }
+
+    /**
+     * Binds the proxy to two free ports on the loopback address and starts relaying.
+     * @throws IOException If the ports cannot be bound.
+     */
+    public void start() throws IOException {
+        val loopback = InetAddress.getLoopbackAddress();
+        tcpServerSocket = new ServerSocket(0, 1, loopback);
+        clientDatagramSocket = new DatagramSocket(0, loopback);
+        serverDatagramSocket = new DatagramSocket();
+        serverDatagramSocket.connect(new InetSocketAddress(targetHost, targetUdpPort));
+        tcpPort = tcpServerSocket.getLocalPort();
+        udpPort = clientDatagramSocket.getLocalPort();
+        startTime = System.nanoTime();
+
+        daemon(this::acceptTcp, "impairment-tcp-accept").start();
+        daemon(this::relayClientDatagrams, "impairment-udp-client").start();
+        daemon(this::relayServerDatagrams, "impairment-udp-server").start();
+        log.info("Impairing the network to " + targetHost + " through TCP " + tcpPort + " and UDP " + udpPort);
+    }
+
+    /**
+     * Gets the profile that is currently active.
+     * @return The active profile.
+     */
+    public ImpairmentProfile getCurrentProfile() {
+        return script.getProfileAt(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * Accepts the client's TCP connection and starts relaying both of its directions.
+     */
+    private void acceptTcp() {
+        try {
+            while (!tcpServerSocket.isClosed()) {
+                val client = tcpServerSocket.accept();
+                val server = new Socket(targetHost, targetTcpPort);
+                relayedSockets.add(client);
+                relayedSockets.add(server);
+                client.setTcpNoDelay(true);
+                server.setTcpNoDelay(true);
+                relayStream(client, server, "impairment-tcp-upstream");
+                relayStream(server, client, "impairment-tcp-downstream");
+            }
+        } catch (IOException e) {
+            if (!tcpServerSocket.isClosed()) {
+                log.warning("The impairment proxy stopped accepting connections: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Relays one direction of a TCP connection. The bytes are read as soon as they arrive and written out
+     * again once the {@link ImpairedLink} decides they should be delivered, in the order they were read.
+     * @param from The socket to read from.
+     * @param to The socket to write to.
+     * @param name The name of the relaying threads.
+     */
+    private void relayStream(Socket from, Socket to, String name) {
+        val link = new ImpairedLink();
+        val pending = new LinkedBlockingQueue<Chunk>();
+
+        daemon(() -> {
+            try (InputStream input = from.getInputStream()) {
+                val buffer = new byte[STREAM_CHUNK_SIZE];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    val delivery = link.scheduleDelivery(read, getCurrentProfile(), true);
+                    pending.put(new Chunk(Arrays.copyOf(buffer, read), delivery));
+                }
+            } catch (IOException | InterruptedException e) {
+                log.fine(name + " stopped reading: " + e.getMessage());
+            } finally {
+                pending.offer(Chunk.END);
+            }
+        }, name + "-read").start();
+
+        daemon(() -> {
+            try (OutputStream output = to.getOutputStream()) {
+                Chunk chunk;
+                while ((chunk = pending.take()) != Chunk.END) {
+                    ImpairedLink.waitUntil(chunk.delivery);
+                    output.write(chunk.bytes);
+                    output.flush();
+                    statistics.recordForwarded(chunk.bytes.length);
+                }
+            } catch (IOException | InterruptedException e) {
+                log.fine(name + " stopped writing: " + e.getMessage());
+            }
+        }, name + "-write").start();
+    }
+
+    /**
+     * Relays the datagrams sent by the client to the server.
+     */
+    private void relayClientDatagrams() {
+        val link = new ImpairedLink();
+        val packet = new DatagramPacket(new byte[MAXIMUM_DATAGRAM_SIZE], MAXIMUM_DATAGRAM_SIZE);
+        try {
+            while (!clientDatagramSocket.isClosed()) {
+                clientDatagramSocket.receive(packet);
+                clientDatagramAddress = packet.getSocketAddress();
+                val bytes = Arrays.copyOf(packet.getData(), packet.getLength());
+                impairDatagram(link, bytes, () -> serverDatagramSocket.send(new DatagramPacket(bytes, bytes.length)));
+            }
+        } catch (IOException e) {
+            if (!clientDatagramSocket.isClosed()) {
+                log.warning("The impairment proxy stopped relaying client datagrams: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Relays the datagrams sent by the server back to the client.
+     */
+    private void relayServerDatagrams() {
+        val link = new ImpairedLink();
+        val packet = new DatagramPacket(new byte[MAXIMUM_DATAGRAM_SIZE], MAXIMUM_DATAGRAM_SIZE);
+        try {
+            while (!serverDatagramSocket.isClosed()) {
+                serverDatagramSocket.receive(packet);
+                val client = clientDatagramAddress;
+                if (client == null) {
+                    continue;
+                }
+                val bytes = Arrays.copyOf(packet.getData(), packet.getLength());
+                impairDatagram(link, bytes,
+                        () -> clientDatagramSocket.send(new DatagramPacket(bytes, bytes.length, client)));
+            }
+        } catch (IOException e) {
+            if (!serverDatagramSocket.isClosed()) {
+                log.warning("The impairment proxy stopped relaying server datagrams: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drops, delays, reorders, or duplicates a single datagram according to the active profile.
+     * @param link The direction the datagram is travelling in.
+     * @param bytes The contents of the datagram.
+     * @param send The action that sends the datagram on.
+     */
+    private void impairDatagram(ImpairedLink link, byte[] bytes, DatagramSend send) {
+        val profile = getCurrentProfile();
+        val random = ThreadLocalRandom.current();
+        if (random.nextFloat() < profile.getLossRate()) {
+            statistics.recordDropped();
+            return;
+        }
+
+        long delivery = link.scheduleDelivery(bytes.length, profile, false);
+        if (random.nextFloat() < profile.getReorderRate()) {
+            val holdBack = Math.max(profile.getJitter(), 10) * 2L;
+            delivery += TimeUnit.MILLISECONDS.toNanos(holdBack);
+            statistics.recordReordered();
+        }
+        scheduleDatagram(delivery, bytes.length, send);
+
+        if (random.nextFloat() < profile.getDuplicateRate()) {
+            statistics.recordDuplicated();
+            scheduleDatagram(link.scheduleDelivery(bytes.length, profile, false), bytes.length, send);
+        }
+    }
+
+    /**
+     * Sends a datagram once its delivery time has been reached.
+     * @param delivery The time, in {@link System#nanoTime()}, to send the datagram at.
+     * @param length The length of the datagram.
+     * @param send The action that sends the datagram on.
+     */
+    private void scheduleDatagram(long delivery, int length, DatagramSend send) {
+        datagramScheduler.schedule(() -> {
+            try {
+                send.send();
+                statistics.recordForwarded(length);
+            } catch (IOException e) {
+                log.fine("Unable to relay a datagram: " + e.getMessage());
+            }
+        }, delivery - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops relaying, closing every socket of the proxy along with the connections it was relaying, and logs what
+     * the proxy did to the traffic.
+     * @throws IOException If a socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        datagramScheduler.shutdownNow();
+        Socket socket;
+        while ((socket = relayedSockets.poll()) != null) {
+            socket.close();
+        }
+        if (clientDatagramSocket != null) {
+            clientDatagramSocket.close();
+        }
+        if (serverDatagramSocket != null) {
+            serverDatagramSocket.close();
+        }
+        if (tcpServerSocket != null) {
+            tcpServerSocket.close();
+        }
+        log.info("Impairment proxy closed: " + statistics);
+    }
+
+    /**
+     * Makes a daemon thread so that the proxy never keeps the application alive.
+     * @param runnable The work of the thread.
+     * @param name The name of the thread.
+     * @return The newly made, unstarted thread.
+     */
+    private static Thread daemon(Runnable runnable, String name) {
+        val thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * The sending of a single datagram.
+     */
+    private interface DatagramSend {
+        void send() throws IOException;
+    }
+
+    /**
+     * A chunk of a TCP stream waiting to be delivered.
+     */
+    private static final class Chunk {
+        /**
+         * Marks the end of a stream.
+         */
+        private static final Chunk END = new Chunk(new byte[0], 0);
+
+        private final byte[] bytes;
+        private final long delivery;
+
+        private Chunk(byte[] bytes, long delivery) {
+            this.bytes = bytes;
+            this.delivery = delivery;
+        }
+    }
+}
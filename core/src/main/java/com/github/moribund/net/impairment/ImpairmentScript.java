@@ -0,0 +1,159 @@
+package com.github.moribund.net.impairment;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.val;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * An {@code ImpairmentScript} is a timeline of {@link ImpairmentProfile}s. Each stage of the script is active for a
+ * given duration before the next stage takes over, and the last stage stays active forever once it is reached.
+ * <p>
+ * Scripts are written one stage per line, with blank lines and lines starting with {@code #} ignored:
+ * <pre>
+ * # a clean start, then a lossy spike, then a congested link
+ * duration=5000
+ * duration=3000 latency=150 jitter=40 loss=0.05 reorder=0.02 duplicate=0.01
+ * latency=80 jitter=10 bandwidth=16000
+ * </pre>
+ */
+public final class ImpairmentScript {
+
+    /**
+     * The profiles of each stage, in the order they are played.
+     */
+    private final ObjectList<ImpairmentProfile> profiles;
+
+    /**
+     * The time, in milliseconds since the start of the script, that each stage ends.
+     */
+    private final LongList stageEnds;
+
+    /**
+     * Creates an empty script. Stages are appended using {@link ImpairmentScript#then(long, ImpairmentProfile)}.
+     */
+    public ImpairmentScript() {
+        profiles = new ObjectArrayList<>();
+        stageEnds = new LongArrayList();
+    }
+
+    /**
+     * Creates a script that only ever has one profile active.
+     * @param profile The profile to keep active.
+     * @return The newly made script.
+     */
+    public static ImpairmentScript constant(ImpairmentProfile profile) {
+        return new ImpairmentScript().then(Long.MAX_VALUE, profile);
+    }
+
+    /**
+     * Appends a new stage to the script.
+     * @param duration How long, in milliseconds, the stage is active for.
+     * @param profile The profile that is active during the stage.
+     * @return This script to allow for the appending of other stages.
+     */
+    public ImpairmentScript then(long duration, ImpairmentProfile profile) {
+        val previousEnd = stageEnds.isEmpty() ? 0 : stageEnds.getLong(stageEnds.size() - 1);
+        val end = Long.MAX_VALUE - previousEnd < duration ? Long.MAX_VALUE : previousEnd + duration;
+        profiles.add(profile);
+        stageEnds.add(end);
+        return this;
+    }
+
+    /**
+     * Gets the profile that is active at a certain point of the script.
+     * @param elapsed The time, in milliseconds, since the script started.
+     * @return The active profile.
+     */
+    public ImpairmentProfile getProfileAt(long elapsed) {
+        if (profiles.isEmpty()) {
+            return ImpairmentProfile.NONE;
+        }
+        for (int i = 0; i < stageEnds.size(); i++) {
+            if (elapsed < stageEnds.getLong(i)) {
+                return profiles.get(i);
+            }
+        }
+        return profiles.get(profiles.size() - 1);
+    }
+
+    /**
+     * Reads a script from a file using the format described by the class documentation.
+     * @param path The path of the script.
+     * @return The parsed script.
+     * @throws IOException If the file cannot be read or a line cannot be parsed.
+     */
+    public static ImpairmentScript load(Path path) throws IOException {
+        val script = new ImpairmentScript();
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                parseStage(script, line);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(path + ":" + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return script;
+    }
+
+    /**
+     * Parses a single stage and appends it to the script.
+     * @param script The script to append the stage to.
+     * @param line The line of {@code key=value} pairs describing the stage.
+     */
+    private static void parseStage(ImpairmentScript script, String line) {
+        long duration = Long.MAX_VALUE;
+        int latency = 0;
+        int jitter = 0;
+        float loss = 0;
+        float reorder = 0;
+        float duplicate = 0;
+        int bandwidth = 0;
+
+        for (String pair : line.split("\\s+")) {
+            val separator = pair.indexOf('=');
+            if (separator == -1) {
+                throw new IllegalArgumentException("Expected key=value but found " + pair);
+            }
+            val key = pair.substring(0, separator);
+            val value = pair.substring(separator + 1);
+            switch (key) {
+                case "duration":
+                    duration = Long.parseLong(value);
+                    break;
+                case "latency":
+                    latency = Integer.parseInt(value);
+                    break;
+                case "jitter":
+                    jitter = Integer.parseInt(value);
+                    break;
+                case "loss":
+                    loss = Float.parseFloat(value);
+                    break;
+                case "reorder":
+                    reorder = Float.parseFloat(value);
+                    break;
+                case "duplicate":
+                    duplicate = Float.parseFloat(value);
+                    break;
+                case "bandwidth":
+                    bandwidth = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown impairment setting " + key);
+            }
+        }
+        script.then(duration, new ImpairmentProfile(latency, jitter, loss, reorder, duplicate, bandwidth));
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.moribund.net.impairment;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The counters of what the {@link ImpairmentProxy} has done to the traffic passing through it.
+ */
+public final class ImpairmentStatistics {
+
+    /**
+     * The amount of TCP chunks and UDP datagrams forwarded, including duplicates.
+     */
+    private final AtomicLong forwarded = new AtomicLong();
+
+    /**
+     * The amount of UDP datagrams dropped.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * The amount of UDP datagrams that were held back to be reordered.
+     */
+    private final AtomicLong reordered = new AtomicLong();
+
+    /**
+     * The amount of UDP datagrams that were delivered twice.
+     */
+    private final AtomicLong duplicated = new AtomicLong();
+
+    /**
+     * The amount of bytes forwarded, including duplicates.
+     */
+    private final AtomicLong bytes = new AtomicLong();
+
+    void recordForwarded(int length) {
+        forwarded.incrementAndGet();
+        bytes.addAndGet(length);
+    }
+
+    void recordDropped() {
+        dropped.incrementAndGet();
+    }
+
+    void recordReordered() {
+        reordered.incrementAndGet();
+    }
+
+    void recordDuplicated() {
+        duplicated.incrementAndGet();
+    }
+
+    public long getForwarded() {
+        return forwarded.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getReordered() {
+        return reordered.get();
+    }
+
+    public long getDuplicated() {
+        return duplicated.get();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    @Override
+    public String toString() {
+        return "forwarded=" + getForwarded() + " (" + getBytes() + " bytes), dropped=" + getDropped()
+                + ", reordered=" + getReordered() + ", duplicated=" + getDuplicated();
+    }
+}
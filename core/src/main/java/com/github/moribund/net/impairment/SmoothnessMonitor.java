@@ -0,0 +1,93 @@
+package com.github.moribund.net.impairment;
+
+import com.github.moribund.utils.Histogram;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.java.Log;
+import lombok.val;
+
+/**
+ * The {@code SmoothnessMonitor} collects how smooth the game felt while the network was being impaired: the time
+ * each frame took and how far the server's {@link com.github.moribund.net.packets.game.GameStatePacket} had to
+ * correct the players from where the client thought they were. It does nothing unless it is enabled, which the
+ * {@link com.github.moribund.net.NetworkBootstrapper} does whenever it connects through an {@link ImpairmentProxy}.
+ */
+@Log
+public final class SmoothnessMonitor {
+
+    /**
+     * The singleton instance of the monitor.
+     */
+    @Getter
+    private static final SmoothnessMonitor instance = new SmoothnessMonitor();
+
+    /**
+     * If samples are being collected.
+     */
+    @Getter @Setter
+    private volatile boolean enabled;
+
+    /**
+     * The frame times, in milliseconds.
+     */
+    private final Histogram frameTimes = new Histogram(1000);
+
+    /**
+     * The distances, in pixels, players were corrected by.
+     */
+    private final Histogram corrections = new Histogram(1000);
+
+    private SmoothnessMonitor() { }
+
+    /**
+     * Records the time a frame took.
+     * @param delta The time of the frame, in seconds, as given to {@link com.badlogic.gdx.Screen#render(float)}.
+     */
+    public void recordFrame(float delta) {
+        if (enabled) {
+            frameTimes.record(delta * 1000f);
+        }
+    }
+
+    /**
+     * Records a correction of a player's position by the server.
+     * @param fromX The x-coordinate the client had.
+     * @param fromY The y-coordinate the client had.
+     * @param toX The x-coordinate the server sent.
+     * @param toY The y-coordinate the server sent.
+     */
+    public void recordCorrection(float fromX, float fromY, float toX, float toY) {
+        if (enabled) {
+            val dx = toX - fromX;
+            val dy = toY - fromY;
+            corrections.record((float) Math.sqrt(dx * dx + dy * dy));
+        }
+    }
+
+    /**
+     * Clears all the samples collected so far.
+     */
+    public synchronized void reset() {
+        frameTimes.reset();
+        corrections.reset();
+    }
+
+    /**
+     * Summarizes the samples collected so far.
+     * @return The summary of the frame times and corrections.
+     */
+    public synchronized String getReport() {
+        return "frame time (ms) " + frameTimes + "; correction (px) " + corrections;
+    }
+
+    /**
+     * Logs the summary of the samples collected so far and starts collecting anew, which is done at the end of
+     * every match.
+     */
+    public synchronized void logReport() {
+        if (enabled) {
+            log.info("Smoothness: " + getReport());
+            reset();
+        }
+    }
+}
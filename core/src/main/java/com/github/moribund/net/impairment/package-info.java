@@ -0,0 +1,5 @@
+/**
+ * Classes that impair the network between the client and a local server so that bad-network behaviour can be
+ * reproduced and measured.
+ */
+package com.github.moribund.net.impairment;
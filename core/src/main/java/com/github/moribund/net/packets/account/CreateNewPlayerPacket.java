@@ -6,6 +6,7 @@ import com.github.moribund.net.packets.data.PlayerData;
 import com.github.moribund.objects.nonplayable.items.GroundItem;
 import com.github.moribund.objects.nonplayable.items.ItemType;
 import com.github.moribund.objects.playable.players.Player;
+import com.github.moribund.simulation.Simulation;
 import com.github.moribund.utils.PlayerUtils;
 import it.unimi.dsi.fastutil.objects.ObjectList;
 import lombok.val;
@@ -49,23 +50,26 @@ public final class CreateNewPlayerPacket implements IncomingPacket {
      */
     @Override
     public void process() {
-        groundItems.forEach(itemData -> {
-            val type = ItemType.getItemType(itemData.getItemId());
-            if (type != null) {
-                val groundItem = new GroundItem(type, itemData.getX(), itemData.getY());
-                GroundItem.addGroundItem(groundItem);
-            }
-        });
-        playerData.forEach(data -> {
-            val playerId = data.getPlayerId();
-            val player = PlayerUtils.makePlayer(gameId, playerId, data.getUsername(), data.getX(), data.getY(),
-                    data.getRotation(), data.getHitpoints());
+        // entities are only ever made and removed by the simulation
+        Simulation.getInstance().post(() -> {
+            groundItems.forEach(itemData -> {
+                val type = ItemType.getItemType(itemData.getItemId());
+                if (type != null) {
+                    val groundItem = new GroundItem(itemData.getGroundItemId(), type, itemData.getX(), itemData.getY());
+                    GroundItem.addGroundItem(groundItem);
+                }
+            });
+            playerData.forEach(data -> {
+                val playerId = data.getPlayerId();
+                val player = PlayerUtils.makePlayer(gameId, playerId, data.getUsername(), data.getX(), data.getY(),
+                        data.getRotation(), data.getHitpoints());
 
-            player.getEquipment().setItemIds(data.getEquipmentItems());
-            player.getInventory().setItemIds(data.getInventoryItems());
+                player.getEquipment().setItemIds(data.getEquipmentItems());
+                player.getInventory().setItemIds(data.getInventoryItems());
 
-            player.updateAppearance();
+                player.updateAppearance();
+            });
+            PlayerUtils.setClientPlayer(playerId);
         });
-        PlayerUtils.setClientPlayer(playerId);
     }
 }
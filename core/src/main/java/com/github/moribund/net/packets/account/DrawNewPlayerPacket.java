@@ -2,6 +2,7 @@ package com.github.moribund.net.packets.account;
 
 import com.github.moribund.net.packets.IncomingPacket;
 import com.github.moribund.objects.playable.players.Player;
+import com.github.moribund.simulation.Simulation;
 import com.github.moribund.utils.PlayerUtils;
 
 /**
@@ -56,6 +57,9 @@ public final class DrawNewPlayerPacket implements IncomingPacket {
      */
     @Override
     public void process() {
-        PlayerUtils.makePlayer(gameId, playerId, username, x, y, rotation, hitpoints);
+        // entities are only ever made and removed by the simulation
+        Simulation.getInstance().post(() -> {
+            PlayerUtils.makePlayer(gameId, playerId, username, x, y, rotation, hitpoints);
+        });
     }
 }
@@ -3,6 +3,7 @@ package com.github.moribund.net.packets.account;
 import com.github.moribund.MoribundClient;
 import com.github.moribund.net.packets.IncomingPacket;
 import com.github.moribund.net.packets.OutgoingPacket;
+import com.github.moribund.simulation.Simulation;
 import com.github.moribund.utils.PlayerUtils;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
@@ -31,10 +32,13 @@ public final class ExitGamePacket implements IncomingPacket, OutgoingPacket {
      */
     @Override
     public void process() {
-        PlayerUtils.deletePlayer(playerId);
+        // entities are only ever made and removed by the simulation
+        Simulation.getInstance().post(() -> {
+            PlayerUtils.deletePlayer(playerId);
 
-        if (playerId == MoribundClient.getInstance().getPlayer().getPlayerId()) {
-            PlayerUtils.switchToNewTitleScreen();
-        }
+            if (playerId == MoribundClient.getInstance().getPlayer().getPlayerId()) {
+                PlayerUtils.switchToNewTitleScreen();
+            }
+        });
     }
 }
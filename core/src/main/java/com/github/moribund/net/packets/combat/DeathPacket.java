@@ -2,6 +2,7 @@ package com.github.moribund.net.packets.combat;
 
 import com.github.moribund.MoribundClient;
 import com.github.moribund.net.packets.IncomingPacket;
+import com.github.moribund.simulation.Simulation;
 import com.github.moribund.utils.PlayerUtils;
 
 /**
@@ -21,10 +22,13 @@ public final class DeathPacket implements IncomingPacket {
 
     @Override
     public void process() {
-        PlayerUtils.deletePlayer(playerId);
+        // entities are only ever made and removed by the simulation
+        Simulation.getInstance().post(() -> {
+            PlayerUtils.deletePlayer(playerId);
 
-        if (playerId == MoribundClient.getInstance().getPlayer().getPlayerId()) {
-            PlayerUtils.switchToNewTitleScreen();
-        }
+            if (playerId == MoribundClient.getInstance().getPlayer().getPlayerId()) {
+                PlayerUtils.switchToNewTitleScreen();
+            }
+        });
     }
 }
@@ -13,7 +13,13 @@ public class GroundItemData implements Serializable {
     /**
      * The serialization version UID, to allow the client and server to share the same serialization compatibility.
      */
-    private static final long serialVersionUID = 5508611406619988854L;
+    private static final long serialVersionUID = -3297245617893014268L;
+
+    /**
+     * The unique ID the server has given the ground item.
+     */
+    @Getter
+    private int groundItemId;
 
     /**
      * The item ID of the ground item.
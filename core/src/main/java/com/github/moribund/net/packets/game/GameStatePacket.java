@@ -1,9 +1,11 @@
 package com.github.moribund.net.packets.game;
 
 import com.github.moribund.MoribundClient;
+import com.github.moribund.net.impairment.SmoothnessMonitor;
 import com.github.moribund.net.packets.IncomingPacket;
 import com.github.moribund.net.packets.data.PlayerData;
 import com.github.moribund.objects.playable.players.Player;
+import com.github.moribund.simulation.Simulation;
 import it.unimi.dsi.fastutil.objects.ObjectList;
 import lombok.val;
 
@@ -30,17 +32,19 @@ public final class GameStatePacket implements IncomingPacket {
 
     @Override
     public void process() {
-        playerData.forEach(data -> {
-            val player = MoribundClient.getInstance().getPlayers().get(data.getPlayerId());
-            if (player != null) {
-                player.setX(data.getX());
-                player.setY(data.getY());
-                player.setRotation(data.getRotation());
-                player.setHitpoints(data.getHitpoints());
-                player.getInventory().setItemIds(data.getInventoryItems());
-                player.getEquipment().setItemIds(data.getEquipmentItems());
-            }
+        // the world is only ever changed by the simulation
+        Simulation.getInstance().post(() -> {
+            playerData.forEach(data -> {
+                val player = MoribundClient.getInstance().getPlayers().get(data.getPlayerId());
+                if (player != null) {
+                    SmoothnessMonitor.getInstance().recordCorrection(player.getX(), player.getY(), data.getX(), data.getY());
+                    MoribundClient.getInstance().getEntityStore().setTransform(player.getSlot(),
+                            data.getX(), data.getY(), data.getRotation());
+                    player.setHitpoints(data.getHitpoints());
+                    player.getInventory().setItemIds(data.getInventoryItems());
+                    player.getEquipment().setItemIds(data.getEquipmentItems());
+                }
+            });
         });
-
     }
 }
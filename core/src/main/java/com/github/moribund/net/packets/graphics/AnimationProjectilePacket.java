@@ -4,6 +4,7 @@ import com.github.moribund.MoribundClient;
 import com.github.moribund.graphics.animations.Animation;
 import com.github.moribund.net.packets.IncomingPacket;
 import com.github.moribund.objects.nonplayable.projectile.ProjectileType;
+import com.github.moribund.simulation.Simulation;
 import lombok.val;
 
 /**
@@ -37,10 +38,13 @@ public class AnimationProjectilePacket implements IncomingPacket {
      */
     @Override
     public void process() {
-        val player =  MoribundClient.getInstance().getPlayers().get(playerId);
-        val animation = Animation.getForId(animationId);
-        val projectile = ProjectileType.getForId(projectileId);
-
-        player.animateThenLaunch(animation, projectile, movementSpeed);
+        // the world is only ever changed by the simulation
+        Simulation.getInstance().post(() -> {
+            val player =  MoribundClient.getInstance().getPlayers().get(playerId);
+            val animation = Animation.getForId(animationId);
+            val projectile = ProjectileType.getForId(projectileId);
+
+            player.animateThenLaunch(animation, projectile, movementSpeed);
+        });
     }
 }
@@ -3,12 +3,18 @@ package com.github.moribund.net.packets.graphics;
 import com.github.moribund.net.packets.IncomingPacket;
 import com.github.moribund.objects.nonplayable.items.GroundItem;
 import com.github.moribund.objects.nonplayable.items.ItemType;
+import com.github.moribund.simulation.Simulation;
 import lombok.val;
 
 /**
  * A packet by the server to signify to the client that a new ground item should be spawned visually.
  */
 public final class NewGroundItemPacket implements IncomingPacket {
+    /**
+     * The unique ID the server has given the ground item.
+     */
+    private int groundItemId;
+
     /**
      * The item ID of the ground item.
      */
@@ -32,11 +38,14 @@ public final class NewGroundItemPacket implements IncomingPacket {
 
     @Override
     public void process() {
-        val itemType = ItemType.getItemType(itemId);
-        if (itemType == null) {
-            return;
-        }
-        val groundItem = new GroundItem(itemType, x, y);
-        GroundItem.addGroundItem(groundItem);
+        // entities are only ever made and removed by the simulation
+        Simulation.getInstance().post(() -> {
+            val itemType = ItemType.getItemType(itemId);
+            if (itemType == null) {
+                return;
+            }
+            val groundItem = new GroundItem(groundItemId, itemType, x, y);
+            GroundItem.addGroundItem(groundItem);
+        });
     }
 }
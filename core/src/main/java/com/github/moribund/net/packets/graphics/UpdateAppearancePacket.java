@@ -2,6 +2,7 @@ package com.github.moribund.net.packets.graphics;
 
 import com.github.moribund.MoribundClient;
 import com.github.moribund.net.packets.IncomingPacket;
+import com.github.moribund.simulation.Simulation;
 import lombok.val;
 
 /**
@@ -22,7 +23,10 @@ public final class UpdateAppearancePacket implements IncomingPacket {
 
     @Override
     public void process() {
-        val player = MoribundClient.getInstance().getPlayers().get(playerId);
-        player.updateAppearance();
+        // the world is only ever changed by the simulation
+        Simulation.getInstance().post(() -> {
+            val player = MoribundClient.getInstance().getPlayers().get(playerId);
+            player.updateAppearance();
+        });
     }
 }
@@ -2,6 +2,7 @@ package com.github.moribund.net.packets.graphics;
 
 import com.github.moribund.MoribundClient;
 import com.github.moribund.graphics.fonts.FontFile;
+import com.github.moribund.graphics.hud.HudLayer;
 import com.github.moribund.net.packets.IncomingPacket;
 import com.github.moribund.objects.playable.players.ui.VictoryRoyaleText;
 import lombok.val;
@@ -25,6 +26,9 @@ public final class VictoryRoyalePacket implements IncomingPacket {
         if (player == null || player.getUsername() == null) {
             return;
         }
-        MoribundClient.getInstance().getDrawableUIAssets().add(new VictoryRoyaleText(player.getUsername(), FontFile.CODE_LIGHT_2));
+        val hud = MoribundClient.getInstance().getHud();
+        // only the latest winner is shown, however many times the packet is sent
+        hud.removeAll(VictoryRoyaleText.class);
+        hud.add(HudLayer.OVERLAY, new VictoryRoyaleText(player.getUsername(), FontFile.CODE_LIGHT_2));
     }
 }
@@ -2,6 +2,7 @@ package com.github.moribund.net.packets.input;
 
 import com.github.moribund.MoribundClient;
 import com.github.moribund.net.packets.IncomingPacket;
+import com.github.moribund.simulation.Simulation;
 import lombok.val;
 
 /**
@@ -26,7 +27,10 @@ public final class KeyPressedResponsePacket implements IncomingPacket {
 
     @Override
     public void process() {
-        val player = MoribundClient.getInstance().getPlayers().get(playerId);
-        player.keyPressed(keyPressed);
+        // the world is only ever changed by the simulation
+        Simulation.getInstance().post(() -> {
+            val player = MoribundClient.getInstance().getPlayers().get(playerId);
+            player.keyPressed(keyPressed);
+        });
     }
 }
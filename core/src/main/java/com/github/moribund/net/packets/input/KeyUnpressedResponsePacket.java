@@ -2,6 +2,7 @@ package com.github.moribund.net.packets.input;
 
 import com.github.moribund.MoribundClient;
 import com.github.moribund.net.packets.IncomingPacket;
+import com.github.moribund.simulation.Simulation;
 import lombok.val;
 
 /**
@@ -26,10 +27,13 @@ public final class KeyUnpressedResponsePacket implements IncomingPacket {
 
     @Override
     public void process() {
-        val player = MoribundClient.getInstance().getPlayers().get(playerId);
-        if (player == null) {
-            return;
-        }
-        player.keyUnpressed(keyUnpressed);
+        // the world is only ever changed by the simulation
+        Simulation.getInstance().post(() -> {
+            val player = MoribundClient.getInstance().getPlayers().get(playerId);
+            if (player == null) {
+                return;
+            }
+            player.keyUnpressed(keyUnpressed);
+        });
     }
 }
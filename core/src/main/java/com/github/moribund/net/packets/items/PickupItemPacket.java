@@ -4,6 +4,7 @@ import com.github.moribund.MoribundClient;
 import com.github.moribund.net.packets.IncomingPacket;
 import com.github.moribund.net.packets.OutgoingPacket;
 import com.github.moribund.objects.nonplayable.items.GroundItem;
+import com.github.moribund.simulation.Simulation;
 import lombok.val;
 
 /**
@@ -22,55 +23,30 @@ public final class PickupItemPacket implements OutgoingPacket, IncomingPacket {
     private final int playerId;
 
     /**
-     * The item ID of the item on the ground.
+     * The unique ID the server has given the ground item.
      */
-    private final int itemId;
+    private final int groundItemId;
 
-    /**
-     * The x-coordinate of the ground item.
-     */
-    private final float x;
-
-    /**
-     * The y-coordinate of the ground item.
-     */
-    private final float y;
-
-    public PickupItemPacket(int gameId, int playerId, int itemId, float x, float y) {
+    public PickupItemPacket(int gameId, int playerId, int groundItemId) {
         this.gameId = gameId;
         this.playerId = playerId;
-        this.itemId = itemId;
-        this.x = x;
-        this.y = y;
+        this.groundItemId = groundItemId;
     }
 
     public PickupItemPacket() {
         gameId = -1;
         playerId = -1;
-        itemId = -1;
-        x = -1;
-        y = -1;
+        groundItemId = -1;
     }
 
     @Override
     public void process() {
-        val groundItem = getGroundItem();
-        if (groundItem != null) {
-            MoribundClient.getInstance().getGroundItems().remove(groundItem);
-            MoribundClient.getInstance().getDrawableGameAssets().remove(groundItem);
-        }
-    }
-
-    /**
-     * Gets a ground item using the above fields.
-     * @return The ground item found.
-     */
-    private GroundItem getGroundItem() {
-        for (GroundItem groundItem : MoribundClient.getInstance().getGroundItems()) {
-            if (groundItem.matches(itemId, x, y)) {
-                return groundItem;
+        // entities are only ever made and removed by the simulation
+        Simulation.getInstance().post(() -> {
+            val groundItem = MoribundClient.getInstance().getGroundItemsById().get(groundItemId);
+            if (groundItem != null) {
+                GroundItem.removeGroundItem(groundItem);
             }
-        }
-        return null;
+        });
     }
 }
@@ -1,6 +1,6 @@
 package com.github.moribund.objects.attributes;
 
-import com.badlogic.gdx.math.Polygon;
+import com.github.moribund.objects.collision.Hitbox;
 import com.github.moribund.objects.nonplayable.projectile.Projectile;
 
 /**
@@ -15,8 +15,8 @@ public interface Collidable {
     void collide(Projectile projectile);
 
     /**
-     * Gets the {@link Polygon} of the entity.
-     * @return the {@link Polygon} of the entity.
+     * Gets the {@link Hitbox} of the entity, placed at the entity's current position and rotation.
+     * @return the {@link Hitbox} of the entity.
      */
-    Polygon getPolygon();
+    Hitbox getHitbox();
 }
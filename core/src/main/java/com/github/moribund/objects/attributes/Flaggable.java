@@ -1,13 +1,15 @@
 package com.github.moribund.objects.attributes;
 
 /**
- * A {code Flaggable} object is an object that has {@link com.github.moribund.objects.flags.Flag}s.
+ * A {code Flaggable} object is an object that has {@link com.github.moribund.objects.flags.Flag}s, which are kept
+ * by its slot in the {@link com.github.moribund.objects.entities.EntityStore}.
  * All {@code Flaggable}s that wish to have their flags enacted on go to the
- * {@link com.github.moribund.MoribundClient#flaggables} {@link it.unimi.dsi.fastutil.objects.ObjectList}.
+ * {@link com.github.moribund.MoribundClient#flaggables} {@link com.github.moribund.objects.entities.HandleArray}.
  */
-public interface Flaggable {
+public interface Flaggable extends Stored {
     /**
-     * Processes players flags per LibGDX game cycle.
+     * Processes what follows from the flags of the object once per tick, after the
+     * {@link com.github.moribund.objects.flags.FlagProcessor} has enacted them.
      */
     void processFlags();
 }
@@ -0,0 +1,20 @@
+package com.github.moribund.objects.attributes;
+
+/**
+ * A {@code Stored} entity keeps its position and rotation in the
+ * {@link com.github.moribund.objects.entities.EntityStore} rather than in its own fields.
+ */
+public interface Stored {
+    /**
+     * Gets the slot of the entity in the {@link com.github.moribund.objects.entities.EntityStore}.
+     * @return The slot of the entity.
+     */
+    int getSlot();
+
+    /**
+     * Gets the handle of the entity in the {@link com.github.moribund.objects.entities.EntityStore}, which refers to
+     * the entity for as long as it is in the world and goes stale once the entity leaves it.
+     * @return The handle of the entity.
+     */
+    int getHandle();
+}
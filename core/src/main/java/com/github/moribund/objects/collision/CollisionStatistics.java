@@ -0,0 +1,187 @@
+package com.github.moribund.objects.collision;
+
+import lombok.val;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of how many hitbox pairs each layer of the {@link NarrowPhase} has tested and rejected. Each layer
+ * only sees the pairs that the layer before it could not reject, so the counters show how much work the cheaper
+ * layers are saving the {@link com.badlogic.gdx.math.Intersector#overlapConvexPolygons(float[], float[],
+ * com.badlogic.gdx.math.Intersector.MinimumTranslationVector)} tests of the convex pieces.
+ * <p>
+ * Collisions are checked by whichever thread steps the simulation, and by every thread of a benchmark, so each
+ * counter is a {@link LongAdder} that any number of threads can add to at once.
+ */
+public final class CollisionStatistics {
+
+    /**
+     * The amount of pairs tested by their bounding circles.
+     */
+    private final LongAdder circleTests = new LongAdder();
+
+    /**
+     * The amount of pairs rejected by their bounding circles.
+     */
+    private final LongAdder circleRejects = new LongAdder();
+
+    /**
+     * The amount of pairs tested by their bounding boxes.
+     */
+    private final LongAdder boxTests = new LongAdder();
+
+    /**
+     * The amount of pairs rejected by their bounding boxes.
+     */
+    private final LongAdder boxRejects = new LongAdder();
+
+    /**
+     * The amount of pairs tested by their convex hulls.
+     */
+    private final LongAdder hullTests = new LongAdder();
+
+    /**
+     * The amount of pairs rejected by their convex hulls.
+     */
+    private final LongAdder hullRejects = new LongAdder();
+
+    /**
+     * The amount of pairs of convex pieces tested by the separating axis theorem.
+     */
+    private final LongAdder separatingAxisTests = new LongAdder();
+
+    /**
+     * The amount of pairs of convex pieces found to overlap by the separating axis theorem.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    void recordCircleTest(boolean rejected) {
+        circleTests.increment();
+        if (rejected) {
+            circleRejects.increment();
+        }
+    }
+
+    void recordBoxTest(boolean rejected) {
+        boxTests.increment();
+        if (rejected) {
+            boxRejects.increment();
+        }
+    }
+
+    void recordHullTest(boolean rejected) {
+        hullTests.increment();
+        if (rejected) {
+            hullRejects.increment();
+        }
+    }
+
+    void recordSeparatingAxisTest(boolean hit) {
+        separatingAxisTests.increment();
+        if (hit) {
+            hits.increment();
+        }
+    }
+
+    /**
+     * Gets the amount of pairs tested by their bounding circles.
+     * @return The amount so far.
+     */
+    public long getCircleTests() {
+        return circleTests.sum();
+    }
+
+    /**
+     * Gets the amount of pairs rejected by their bounding circles.
+     * @return The amount so far.
+     */
+    public long getCircleRejects() {
+        return circleRejects.sum();
+    }
+
+    /**
+     * Gets the amount of pairs tested by their bounding boxes.
+     * @return The amount so far.
+     */
+    public long getBoxTests() {
+        return boxTests.sum();
+    }
+
+    /**
+     * Gets the amount of pairs rejected by their bounding boxes.
+     * @return The amount so far.
+     */
+    public long getBoxRejects() {
+        return boxRejects.sum();
+    }
+
+    /**
+     * Gets the amount of pairs tested by their convex hulls.
+     * @return The amount so far.
+     */
+    public long getHullTests() {
+        return hullTests.sum();
+    }
+
+    /**
+     * Gets the amount of pairs rejected by their convex hulls.
+     * @return The amount so far.
+     */
+    public long getHullRejects() {
+        return hullRejects.sum();
+    }
+
+    /**
+     * Gets the amount of pairs of convex pieces tested by the separating axis theorem.
+     * @return The amount so far.
+     */
+    public long getSeparatingAxisTests() {
+        return separatingAxisTests.sum();
+    }
+
+    /**
+     * Gets the amount of pairs of convex pieces found to overlap by the separating axis theorem.
+     * @return The amount so far.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the share of pairs tested by a layer that the layer rejected.
+     * @param rejects The amount of pairs rejected by the layer.
+     * @param tests The amount of pairs tested by the layer.
+     * @return The reject rate between 0 and 1.
+     */
+    public static double rate(long rejects, long tests) {
+        return tests == 0 ? 0 : rejects / (double) tests;
+    }
+
+    /**
+     * Sets every counter back to zero.
+     */
+    public void reset() {
+        circleTests.reset();
+        circleRejects.reset();
+        boxTests.reset();
+        boxRejects.reset();
+        hullTests.reset();
+        hullRejects.reset();
+        separatingAxisTests.reset();
+        hits.reset();
+    }
+
+    @Override
+    public String toString() {
+        val circleTests = getCircleTests();
+        val boxTests = getBoxTests();
+        val hullTests = getHullTests();
+        val separatingAxisTests = getSeparatingAxisTests();
+        return String.format("circle %d (%.1f%% rejected), box %d (%.1f%% rejected), hull %d (%.1f%% rejected), "
+                        + "pieces %d (%.1f%% hit)",
+                circleTests, rate(getCircleRejects(), circleTests) * 100,
+                boxTests, rate(getBoxRejects(), boxTests) * 100,
+                hullTests, rate(getHullRejects(), hullTests) * 100,
+                separatingAxisTests, rate(getHits(), separatingAxisTests) * 100);
+    }
+}
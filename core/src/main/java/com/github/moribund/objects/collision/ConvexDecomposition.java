@@ -0,0 +1,246 @@
+package com.github.moribund.objects.collision;
+
+import com.badlogic.gdx.math.ConvexHull;
+import com.badlogic.gdx.math.EarClippingTriangulator;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.util.Arrays;
+
+/**
+ * The {@code ConvexDecomposition} splits concave outlines into convex pieces so that they can be tested with the
+ * separating axis theorem, which is only correct for convex shapes. The outline is first triangulated by ear
+ * clipping, then neighbouring pieces are merged back together across their shared diagonal for as long as the
+ * result stays convex, as described by Hertel and Mehlhorn. This gives at most four times the minimum amount of
+ * pieces, and in practice close to it. Every method here is meant to be run once at load time rather than per frame.
+ */
+@UtilityClass
+public class ConvexDecomposition {
+
+    /**
+     * How far below zero a cross product can be while its corner is still counted as convex, which allows for
+     * collinear vertices.
+     */
+    private final float EPSILON = 1e-4f;
+
+    private final EarClippingTriangulator TRIANGULATOR = new EarClippingTriangulator();
+    private final ConvexHull CONVEX_HULL = new ConvexHull();
+
+    /**
+     * Splits an outline into convex pieces.
+     * @param outline The vertices of a simple polygon, as x and y pairs, in either winding.
+     * @return The convex pieces, each as counter-clockwise x and y pairs.
+     */
+    public float[][] decompose(float[] outline) {
+        val vertices = counterClockwise(outline);
+        val triangles = TRIANGULATOR.computeTriangles(vertices);
+        val pieces = new ObjectArrayList<IntArrayList>();
+        for (int i = 0; i < triangles.size; i += 3) {
+            val a = triangles.get(i);
+            val b = triangles.get(i + 1);
+            val c = triangles.get(i + 2);
+            val area = cross(vertices, a, b, c);
+            if (Math.abs(area) <= EPSILON) {
+                continue;
+            }
+            val piece = new IntArrayList(3);
+            piece.add(a);
+            if (area > 0) {
+                piece.add(b);
+                piece.add(c);
+            } else {
+                piece.add(c);
+                piece.add(b);
+            }
+            pieces.add(piece);
+        }
+
+        while (mergeOnce(vertices, pieces)) {
+            // keep merging until no two pieces can be joined
+        }
+
+        val result = new float[pieces.size()][];
+        for (int i = 0; i < pieces.size(); i++) {
+            val piece = pieces.get(i);
+            val coordinates = new float[piece.size() * 2];
+            for (int j = 0; j < piece.size(); j++) {
+                coordinates[j * 2] = vertices[piece.getInt(j) * 2];
+                coordinates[j * 2 + 1] = vertices[piece.getInt(j) * 2 + 1];
+            }
+            result[i] = coordinates;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the convex hull of an outline.
+     * @param outline The vertices, as x and y pairs.
+     * @return The vertices of the hull, as x and y pairs.
+     */
+    public float[] hull(float[] outline) {
+        val closed = CONVEX_HULL.computePolygon(outline, false);
+        // the hull is returned closed, with the first vertex repeated at the end
+        return Arrays.copyOf(closed.items, closed.size - 2);
+    }
+
+    /**
+     * Simplifies an outline down to a budget of vertices by repeatedly removing the vertex that spans the smallest
+     * triangle with its neighbours, as described by Visvalingam and Whyatt. The vertices removed first are the ones
+     * that change the shape the least.
+     * @param outline The vertices, as x and y pairs.
+     * @param budget The most vertices the result can have. A budget below three, or above the current amount of
+     *               vertices, leaves the outline as it is.
+     * @return The simplified vertices, as x and y pairs.
+     */
+    public float[] simplify(float[] outline, int budget) {
+        if (budget < 3) {
+            return outline.clone();
+        }
+        val indices = new IntArrayList(outline.length / 2);
+        for (int i = 0; i < outline.length / 2; i++) {
+            indices.add(i);
+        }
+
+        while (indices.size() > budget) {
+            int smallest = -1;
+            float smallestArea = Float.MAX_VALUE;
+            for (int i = 0; i < indices.size(); i++) {
+                val previous = indices.getInt((i + indices.size() - 1) % indices.size());
+                val next = indices.getInt((i + 1) % indices.size());
+                val area = Math.abs(cross(outline, previous, indices.getInt(i), next));
+                if (area < smallestArea) {
+                    smallestArea = area;
+                    smallest = i;
+                }
+            }
+            indices.removeInt(smallest);
+        }
+
+        val simplified = new float[indices.size() * 2];
+        for (int i = 0; i < indices.size(); i++) {
+            simplified[i * 2] = outline[indices.getInt(i) * 2];
+            simplified[i * 2 + 1] = outline[indices.getInt(i) * 2 + 1];
+        }
+        return simplified;
+    }
+
+    /**
+     * Finds the first two pieces that share a diagonal and can be merged into a convex piece, and merges them.
+     * @param vertices The counter-clockwise outline the pieces index into.
+     * @param pieces The pieces, as counter-clockwise vertex indices.
+     * @return If two pieces were merged.
+     */
+    private boolean mergeOnce(float[] vertices, ObjectArrayList<IntArrayList> pieces) {
+        for (int i = 0; i < pieces.size(); i++) {
+            val first = pieces.get(i);
+            for (int edge = 0; edge < first.size(); edge++) {
+                val a = first.getInt(edge);
+                val b = first.getInt((edge + 1) % first.size());
+                for (int j = i + 1; j < pieces.size(); j++) {
+                    val second = pieces.get(j);
+                    val shared = indexOfEdge(second, b, a);
+                    if (shared == -1) {
+                        continue;
+                    }
+                    val merged = merge(first, (edge + 1) % first.size(), second, shared);
+                    if (isConvex(vertices, merged)) {
+                        pieces.set(i, merged);
+                        pieces.remove(j);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Joins two pieces across the diagonal they share. The diagonal runs from a to b in the first piece and from b
+     * to a in the second.
+     * @param first The first piece.
+     * @param bInFirst The index of b in the first piece.
+     * @param second The second piece.
+     * @param bInSecond The index of b in the second piece.
+     * @return The merged piece, still counter-clockwise.
+     */
+    private IntArrayList merge(IntArrayList first, int bInFirst, IntArrayList second, int bInSecond) {
+        val merged = new IntArrayList(first.size() + second.size() - 2);
+        // walk the first piece all the way round from b to a
+        for (int k = 0; k < first.size(); k++) {
+            merged.add(first.getInt((bInFirst + k) % first.size()));
+        }
+        // then the second piece from just after a to just before b
+        for (int k = 2; k < second.size(); k++) {
+            merged.add(second.getInt((bInSecond + k) % second.size()));
+        }
+        return merged;
+    }
+
+    /**
+     * Finds a directed edge in a piece.
+     * @param piece The piece.
+     * @param from The vertex the edge starts at.
+     * @param to The vertex the edge ends at.
+     * @return The index of the start of the edge in the piece, or -1 should the piece not have the edge.
+     */
+    private int indexOfEdge(IntArrayList piece, int from, int to) {
+        for (int k = 0; k < piece.size(); k++) {
+            if (piece.getInt(k) == from && piece.getInt((k + 1) % piece.size()) == to) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if a counter-clockwise piece has no reflex corners.
+     * @param vertices The outline the piece indexes into.
+     * @param piece The piece.
+     * @return If the piece is convex.
+     */
+    private boolean isConvex(float[] vertices, IntArrayList piece) {
+        val size = piece.size();
+        for (int k = 0; k < size; k++) {
+            val corner = cross(vertices, piece.getInt(k), piece.getInt((k + 1) % size), piece.getInt((k + 2) % size));
+            if (corner < -EPSILON) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Makes a counter-clockwise copy of an outline.
+     * @param outline The vertices, as x and y pairs, in either winding.
+     * @return The vertices in counter-clockwise winding.
+     */
+    private float[] counterClockwise(float[] outline) {
+        float doubleArea = 0;
+        for (int i = 0; i < outline.length; i += 2) {
+            val next = (i + 2) % outline.length;
+            doubleArea += outline[i] * outline[next + 1] - outline[next] * outline[i + 1];
+        }
+        if (doubleArea >= 0) {
+            return outline.clone();
+        }
+        val reversed = new float[outline.length];
+        for (int i = 0; i < outline.length; i += 2) {
+            reversed[i] = outline[outline.length - i - 2];
+            reversed[i + 1] = outline[outline.length - i - 1];
+        }
+        return reversed;
+    }
+
+    /**
+     * Gets the cross product of the corner at b, going from a to b to c. It is positive for a left turn.
+     */
+    private float cross(float[] vertices, int a, int b, int c) {
+        val abX = vertices[b * 2] - vertices[a * 2];
+        val abY = vertices[b * 2 + 1] - vertices[a * 2 + 1];
+        val bcX = vertices[c * 2] - vertices[b * 2];
+        val bcY = vertices[c * 2 + 1] - vertices[b * 2 + 1];
+        return abX * bcY - abY * bcX;
+    }
+}
@@ -0,0 +1,289 @@
+package com.github.moribund.objects.collision;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.github.moribund.objects.entities.EntityStore;
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * A {@code Hitbox} is the collision shape of an entity. It is a shared {@link HitboxShape}, a set of convex pieces
+ * and the convex hull around them in local space, placed into the world by a position and a rotation around an origin in the
+ * same way as a {@link com.badlogic.gdx.math.Polygon}. Unlike a {@link com.badlogic.gdx.math.Polygon}, a
+ * {@code Hitbox} only recomputes its world-space vertices when its position or rotation has actually changed, and
+ * only recomputes the pieces once a test has got past the hull. It also keeps a bounding circle that never needs
+ * to be recomputed at all, as rotating around the origin cannot move a vertex further from it.
+ */
+public final class Hitbox {
+
+    /**
+     * The local-space geometry, which is shared with every other hitbox of the same outline.
+     */
+    @Getter
+    private HitboxShape shape;
+
+    /**
+     * The vertices of the hull in world space, as x and y pairs. These are only valid while
+     * {@link Hitbox#hullDirty} is false.
+     */
+    private float[] worldHull;
+
+    /**
+     * The vertices of each convex piece in world space, as x and y pairs. These are only valid while
+     * {@link Hitbox#piecesDirty} is false, and are not allocated until a test first gets past the hull, which most
+     * hitboxes never see.
+     */
+    private float[][] worldPieces;
+
+    /**
+     * The x-coordinate of the point the hitbox rotates around, relative to its position.
+     */
+    private float originX;
+
+    /**
+     * The y-coordinate of the point the hitbox rotates around, relative to its position.
+     */
+    private float originY;
+
+    /**
+     * The distance from the origin to the furthest vertex.
+     */
+    @Getter
+    private float boundingRadius;
+
+    /**
+     * The x-coordinate of the hitbox in the world.
+     */
+    @Getter
+    private float x;
+
+    /**
+     * The y-coordinate of the hitbox in the world.
+     */
+    @Getter
+    private float y;
+
+    /**
+     * The rotational angle, in degrees, of the hitbox.
+     */
+    @Getter
+    private float rotation;
+
+    /**
+     * If the world-space hull and bounding box need to be recomputed.
+     */
+    private boolean hullDirty;
+
+    /**
+     * If the world-space pieces need to be recomputed.
+     */
+    private boolean piecesDirty;
+
+    /**
+     * The slot of the {@link EntityStore} the hitbox was last {@link Hitbox#sync synced} to.
+     */
+    private int syncedSlot = -1;
+
+    /**
+     * The transform version of the {@link Hitbox#syncedSlot} when the hitbox was last synced to it.
+     */
+    private int syncedVersion;
+
+    private float minX;
+    private float minY;
+    private float maxX;
+    private float maxY;
+
+    /**
+     * Makes a hitbox of a shape.
+     * @param shape The local-space geometry of the hitbox.
+     * @param originX The x-coordinate of the point the hitbox rotates around.
+     * @param originY The y-coordinate of the point the hitbox rotates around.
+     */
+    public Hitbox(HitboxShape shape, float originX, float originY) {
+        setShape(shape, originX, originY);
+    }
+
+    /**
+     * Replaces the shape of the hitbox, as is done when an entity changes appearance. The world-space arrays are
+     * kept should the new shape have as many vertices as the old one.
+     * @param shape The local-space geometry of the hitbox.
+     * @param originX The x-coordinate of the point the hitbox rotates around.
+     * @param originY The y-coordinate of the point the hitbox rotates around.
+     */
+    public void setShape(HitboxShape shape, float originX, float originY) {
+        if (this.shape == shape && this.originX == originX && this.originY == originY) {
+            return;
+        }
+        this.shape = shape;
+        this.originX = originX;
+        this.originY = originY;
+        if (worldHull == null || worldHull.length != shape.getHull().length) {
+            worldHull = new float[shape.getHull().length];
+        }
+        if (worldPieces != null && !fits(worldPieces, shape.getPieces())) {
+            worldPieces = null;
+        }
+        boundingRadius = shape.radiusAbout(originX, originY);
+        hullDirty = true;
+        piecesDirty = true;
+    }
+
+    /**
+     * Places the hitbox in the world. Nothing is invalidated should the position and rotation be unchanged.
+     * @param x The x-coordinate of the hitbox.
+     * @param y The y-coordinate of the hitbox.
+     * @param rotation The rotational angle, in degrees, of the hitbox.
+     */
+    public void setTransform(float x, float y, float rotation) {
+        if (this.x == x && this.y == y && this.rotation == rotation) {
+            return;
+        }
+        this.x = x;
+        this.y = y;
+        this.rotation = rotation;
+        hullDirty = true;
+        piecesDirty = true;
+    }
+
+    /**
+     * Places the hitbox where a slot of an {@link EntityStore} is. Should the slot not have moved since the hitbox
+     * was last synced to it, this costs no more than comparing its {@link EntityStore#getTransformVersion(int)}.
+     * @param store The store that holds the transform.
+     * @param slot The slot of the entity.
+     */
+    public void sync(EntityStore store, int slot) {
+        val version = store.getTransformVersion(slot);
+        if (slot == syncedSlot && version == syncedVersion) {
+            return;
+        }
+        syncedSlot = slot;
+        syncedVersion = version;
+        setTransform(store.getX(slot), store.getY(slot), store.getRotation(slot));
+    }
+
+    /**
+     * Gets the x-coordinate of the center of the bounding circle.
+     * @return The x-coordinate of the center.
+     */
+    public float getCenterX() {
+        return x + originX;
+    }
+
+    /**
+     * Gets the y-coordinate of the center of the bounding circle.
+     * @return The y-coordinate of the center.
+     */
+    public float getCenterY() {
+        return y + originY;
+    }
+
+    /**
+     * Gets the vertices of the hull in world space, recomputing them only if the hitbox has moved since they were
+     * last computed.
+     * @return The world-space hull, as x and y pairs. The array is owned by the hitbox and must not be changed.
+     */
+    public float[] getWorldHull() {
+        if (hullDirty) {
+            computeWorldHull();
+        }
+        return worldHull;
+    }
+
+    /**
+     * Gets the vertices of each convex piece in world space, recomputing them only if the hitbox has moved since
+     * they were last computed.
+     * @return The world-space pieces, as x and y pairs. The arrays are owned by the hitbox and must not be changed.
+     */
+    public float[][] getWorldPieces() {
+        if (piecesDirty) {
+            val localPieces = shape.getPieces();
+            if (worldPieces == null) {
+                worldPieces = new float[localPieces.length][];
+                for (int i = 0; i < localPieces.length; i++) {
+                    worldPieces[i] = new float[localPieces[i].length];
+                }
+            }
+            val cos = MathUtils.cosDeg(rotation);
+            val sin = MathUtils.sinDeg(rotation);
+            for (int i = 0; i < localPieces.length; i++) {
+                transform(localPieces[i], worldPieces[i], cos, sin);
+            }
+            piecesDirty = false;
+        }
+        return worldPieces;
+    }
+
+    public float getMinX() {
+        getWorldHull();
+        return minX;
+    }
+
+    public float getMinY() {
+        getWorldHull();
+        return minY;
+    }
+
+    public float getMaxX() {
+        getWorldHull();
+        return maxX;
+    }
+
+    public float getMaxY() {
+        getWorldHull();
+        return maxY;
+    }
+
+    /**
+     * Moves the hull into the world, keeping track of the bounding box along the way.
+     */
+    private void computeWorldHull() {
+        transform(shape.getHull(), worldHull, MathUtils.cosDeg(rotation), MathUtils.sinDeg(rotation));
+        minX = Float.MAX_VALUE;
+        minY = Float.MAX_VALUE;
+        maxX = -Float.MAX_VALUE;
+        maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < worldHull.length; i += 2) {
+            minX = Math.min(minX, worldHull[i]);
+            minY = Math.min(minY, worldHull[i + 1]);
+            maxX = Math.max(maxX, worldHull[i]);
+            maxY = Math.max(maxY, worldHull[i + 1]);
+        }
+        hullDirty = false;
+    }
+
+    /**
+     * Rotates local-space vertices around the origin and moves them to the position of the hitbox.
+     * @param local The local-space vertices.
+     * @param world The array to write the world-space vertices to.
+     * @param cos The cosine of the rotation.
+     * @param sin The sine of the rotation.
+     */
+    private void transform(float[] local, float[] world, float cos, float sin) {
+        val translateX = x + originX;
+        val translateY = y + originY;
+        for (int i = 0; i < local.length; i += 2) {
+            val localX = local[i] - originX;
+            val localY = local[i + 1] - originY;
+            world[i] = cos * localX - sin * localY + translateX;
+            world[i + 1] = sin * localX + cos * localY + translateY;
+        }
+    }
+
+    /**
+     * Checks if world-space pieces can hold the vertices of local-space ones without being reallocated.
+     * @param world The world-space pieces.
+     * @param local The local-space pieces.
+     * @return If every piece has the same number of vertices.
+     */
+    private static boolean fits(float[][] world, float[][] local) {
+        if (world.length != local.length) {
+            return false;
+        }
+        for (int i = 0; i < local.length; i++) {
+            if (world[i].length != local[i].length) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
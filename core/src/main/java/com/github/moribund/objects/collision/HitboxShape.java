@@ -0,0 +1,53 @@
+package com.github.moribund.objects.collision;
+
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * A {@code HitboxShape} is the local-space geometry of a {@link Hitbox}: the convex hull and the convex pieces
+ * within it. It never changes once it is made, and there is one for each
+ * {@link com.github.moribund.graphics.sprites.SpriteVertices}, so every entity with the same outline shares it. A
+ * {@link Hitbox} holds only a reference to its shape along with its own transform.
+ */
+public final class HitboxShape {
+
+    /**
+     * The vertices of the convex hull, as x and y pairs. The array is shared and must not be changed.
+     */
+    @Getter
+    private final float[] hull;
+
+    /**
+     * The vertices of each convex piece, as x and y pairs, all of which lie within the {@link HitboxShape#hull}. The
+     * arrays are shared and must not be changed.
+     */
+    @Getter
+    private final float[][] pieces;
+
+    /**
+     * Makes a shape from local-space vertices.
+     * @param hull The vertices of the convex hull, as x and y pairs.
+     * @param pieces The vertices of each convex piece, as x and y pairs, all of which lie within the hull.
+     */
+    public HitboxShape(float[] hull, float[][] pieces) {
+        this.hull = hull;
+        this.pieces = pieces;
+    }
+
+    /**
+     * Gets the distance from a point to the vertex of the hull furthest from it, which is the radius of a circle
+     * around that point that the shape can never leave, however it is rotated around it.
+     * @param originX The x-coordinate of the point.
+     * @param originY The y-coordinate of the point.
+     * @return The radius of the circle.
+     */
+    public float radiusAbout(float originX, float originY) {
+        float radiusSquared = 0;
+        for (int i = 0; i < hull.length; i += 2) {
+            val dx = hull[i] - originX;
+            val dy = hull[i + 1] - originY;
+            radiusSquared = Math.max(radiusSquared, dx * dx + dy * dy);
+        }
+        return (float) Math.sqrt(radiusSquared);
+    }
+}
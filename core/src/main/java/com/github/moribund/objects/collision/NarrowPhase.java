@@ -0,0 +1,131 @@
+package com.github.moribund.objects.collision;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.MathUtils;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+/**
+ * The {@code NarrowPhase} decides if two {@link Hitbox}es overlap. Rather than going straight to the separating
+ * axis theorem, it first rejects pairs whose bounding circles are apart, then pairs whose bounding boxes are
+ * apart, then pairs whose convex hulls are apart, and only tests the convex pieces of the pairs that none of those
+ * could reject.
+ */
+@UtilityClass
+public class NarrowPhase {
+
+    /**
+     * The counters of each layer of the narrow-phase, which every thread that checks for collisions adds to.
+     */
+    @Getter
+    private final CollisionStatistics statistics = new CollisionStatistics();
+
+    /**
+     * Checks if two hitboxes overlap.
+     * @param first The first hitbox.
+     * @param second The second hitbox.
+     * @return If the hitboxes overlap.
+     */
+    public boolean overlaps(Hitbox first, Hitbox second) {
+        val dx = first.getCenterX() - second.getCenterX();
+        val dy = first.getCenterY() - second.getCenterY();
+        val radii = first.getBoundingRadius() + second.getBoundingRadius();
+        val circlesApart = dx * dx + dy * dy > radii * radii;
+        statistics.recordCircleTest(circlesApart);
+        if (circlesApart) {
+            return false;
+        }
+
+        val boxesApart = first.getMaxX() < second.getMinX() || second.getMaxX() < first.getMinX()
+                || first.getMaxY() < second.getMinY() || second.getMaxY() < first.getMinY();
+        statistics.recordBoxTest(boxesApart);
+        if (boxesApart) {
+            return false;
+        }
+
+        val hullsApart = !Intersector.overlapConvexPolygons(first.getWorldHull(), second.getWorldHull(), null);
+        statistics.recordHullTest(hullsApart);
+        if (hullsApart) {
+            return false;
+        }
+
+        val firstPieces = first.getWorldPieces();
+        val secondPieces = second.getWorldPieces();
+        for (val firstPiece : firstPieces) {
+            for (val secondPiece : secondPieces) {
+                val hit = Intersector.overlapConvexPolygons(firstPiece, secondPiece, null);
+                statistics.recordSeparatingAxisTest(hit);
+                if (hit) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a hitbox touches another at any point along a straight motion, rather than only where the motion
+     * ends. The same layers as {@link NarrowPhase#overlaps(Hitbox, Hitbox)} are used, each grown to cover the whole
+     * motion, and the pieces are tested by the {@link SweptSeparatingAxis}, so a fast hitbox cannot pass through a
+     * thin one between two checks.
+     * @param moving The hitbox that has moved, placed where the motion ends.
+     * @param motionX How far the moving hitbox has moved on the x-axis.
+     * @param motionY How far the moving hitbox has moved on the y-axis.
+     * @param target The hitbox that is still.
+     * @return If the hitboxes touch at any point along the motion.
+     */
+    public boolean sweeps(Hitbox moving, float motionX, float motionY, Hitbox target) {
+        if (motionX == 0 && motionY == 0) {
+            return overlaps(moving, target);
+        }
+
+        // the closest the moving center comes to the target center along the motion
+        val endX = moving.getCenterX();
+        val endY = moving.getCenterY();
+        val startX = endX - motionX;
+        val startY = endY - motionY;
+        val targetX = target.getCenterX();
+        val targetY = target.getCenterY();
+        val along = MathUtils.clamp(((targetX - startX) * motionX + (targetY - startY) * motionY)
+                / (motionX * motionX + motionY * motionY), 0f, 1f);
+        val dx = startX + along * motionX - targetX;
+        val dy = startY + along * motionY - targetY;
+        val radii = moving.getBoundingRadius() + target.getBoundingRadius();
+        val circlesApart = dx * dx + dy * dy > radii * radii;
+        statistics.recordCircleTest(circlesApart);
+        if (circlesApart) {
+            return false;
+        }
+
+        val boxesApart = moving.getMaxX() - Math.min(motionX, 0) < target.getMinX()
+                || target.getMaxX() < moving.getMinX() - Math.max(motionX, 0)
+                || moving.getMaxY() - Math.min(motionY, 0) < target.getMinY()
+                || target.getMaxY() < moving.getMinY() - Math.max(motionY, 0);
+        statistics.recordBoxTest(boxesApart);
+        if (boxesApart) {
+            return false;
+        }
+
+        val hullsApart = SweptSeparatingAxis.timeOfImpact(moving.getWorldHull(), motionX, motionY,
+                target.getWorldHull()) == SweptSeparatingAxis.NO_IMPACT;
+        statistics.recordHullTest(hullsApart);
+        if (hullsApart) {
+            return false;
+        }
+
+        val movingPieces = moving.getWorldPieces();
+        val targetPieces = target.getWorldPieces();
+        for (val movingPiece : movingPieces) {
+            for (val targetPiece : targetPieces) {
+                val hit = SweptSeparatingAxis.timeOfImpact(movingPiece, motionX, motionY, targetPiece)
+                        != SweptSeparatingAxis.NO_IMPACT;
+                statistics.recordSeparatingAxisTest(hit);
+                if (hit) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,286 @@
+package com.github.moribund.objects.collision;
+
+import com.badlogic.gdx.math.Rectangle;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import lombok.val;
+
+/**
+ * A {@code SpatialHashGrid} splits the world into square cells of a uniform size and keeps track of which cells
+ * every item's bounds overlap. Rather than testing against every item in the world, a query only has to look at
+ * the items in the cells it overlaps. Cells are hashed by their coordinates, so the grid has no bounds and only
+ * uses memory for cells that are occupied.
+ *
+ * @param <T> The type of item in the grid.
+ */
+public final class SpatialHashGrid<T> {
+
+    /**
+     * The width and height of each cell.
+     */
+    private final float cellSize;
+
+    /**
+     * The entries in each cell, keyed by {@link SpatialHashGrid#key(int, int)}.
+     */
+    private final Long2ObjectMap<ObjectList<Entry<T>>> cells;
+
+    /**
+     * The entry of each item in the grid.
+     */
+    private final Reference2ObjectMap<T, Entry<T>> entries;
+
+    /**
+     * Incremented on every query so that an entry in multiple cells is only returned once.
+     */
+    private int queryStamp;
+
+    /**
+     * Makes an empty grid.
+     * @param cellSize The width and height of each cell, which is best set at around the size of the items.
+     */
+    public SpatialHashGrid(float cellSize) {
+        this.cellSize = cellSize;
+        cells = new Long2ObjectOpenHashMap<>();
+        entries = new Reference2ObjectOpenHashMap<>();
+    }
+
+    /**
+     * Inserts an item into the grid, or moves it to the cells its new bounds overlap should it already be in the
+     * grid. An item that stays within the same cells is not touched.
+     * @param item The item to insert or update.
+     * @param bounds The bounds of the item.
+     */
+    public void update(T item, Rectangle bounds) {
+        update(item, bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height);
+    }
+
+    /**
+     * Inserts an item into the grid by the bounding circle of its {@link Hitbox}. The circle is used rather than
+     * the exact bounds so that the world-space vertices of the hitbox do not have to be computed every frame.
+     * @param item The item to insert or update.
+     * @param hitbox The hitbox of the item.
+     */
+    public void update(T item, Hitbox hitbox) {
+        val centerX = hitbox.getCenterX();
+        val centerY = hitbox.getCenterY();
+        val radius = hitbox.getBoundingRadius();
+        update(item, centerX - radius, centerY - radius, centerX + radius, centerY + radius);
+    }
+
+    /**
+     * Inserts an item into the grid, or moves it to the cells its new bounds overlap should it already be in the
+     * grid. An item that stays within the same cells is not touched.
+     * @param item The item to insert or update.
+     * @param minX The left bound of the item.
+     * @param minY The bottom bound of the item.
+     * @param maxX The right bound of the item.
+     * @param maxY The top bound of the item.
+     */
+    public void update(T item, float minX, float minY, float maxX, float maxY) {
+        val minCellX = cell(minX);
+        val minCellY = cell(minY);
+        val maxCellX = cell(maxX);
+        val maxCellY = cell(maxY);
+
+        Entry<T> entry = entries.get(item);
+        if (entry == null) {
+            entry = new Entry<>(item);
+            entries.put(item, entry);
+        } else if (entry.covers(minCellX, minCellY, maxCellX, maxCellY)) {
+            return;
+        } else {
+            unlink(entry);
+        }
+        entry.minCellX = minCellX;
+        entry.minCellY = minCellY;
+        entry.maxCellX = maxCellX;
+        entry.maxCellY = maxCellY;
+        link(entry);
+    }
+
+    /**
+     * Removes an item from the grid.
+     * @param item The item to remove.
+     */
+    public void remove(T item) {
+        val entry = entries.remove(item);
+        if (entry != null) {
+            unlink(entry);
+        }
+    }
+
+    /**
+     * Removes every item from the grid.
+     */
+    public void clear() {
+        cells.clear();
+        entries.clear();
+    }
+
+    /**
+     * Gets the amount of items in the grid.
+     * @return The amount of items.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Finds every item that shares a cell with an area. Items are only added once, even if they are in multiple
+     * of the cells, but they are not guaranteed to actually overlap the area.
+     * @param minX The left bound of the area.
+     * @param minY The bottom bound of the area.
+     * @param maxX The right bound of the area.
+     * @param maxY The top bound of the area.
+     * @param results The list to add the items to, which is not cleared beforehand.
+     */
+    public void query(float minX, float minY, float maxX, float maxY, ObjectList<? super T> results) {
+        val stamp = ++queryStamp;
+        val maxCellX = cell(maxX);
+        val maxCellY = cell(maxY);
+        for (int cellX = cell(minX); cellX <= maxCellX; cellX++) {
+            for (int cellY = cell(minY); cellY <= maxCellY; cellY++) {
+                val cellEntries = cells.get(key(cellX, cellY));
+                if (cellEntries == null) {
+                    continue;
+                }
+                for (int i = 0, size = cellEntries.size(); i < size; i++) {
+                    val entry = cellEntries.get(i);
+                    if (entry.queryStamp != stamp) {
+                        entry.queryStamp = stamp;
+                        results.add(entry.item);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds every item that shares a cell with the bounding circle of a {@link Hitbox}.
+     * @param hitbox The hitbox.
+     * @param results The list to add the items to, which is not cleared beforehand.
+     * @see SpatialHashGrid#query(float, float, float, float, ObjectList)
+     */
+    public void query(Hitbox hitbox, ObjectList<? super T> results) {
+        val centerX = hitbox.getCenterX();
+        val centerY = hitbox.getCenterY();
+        val radius = hitbox.getBoundingRadius();
+        query(centerX - radius, centerY - radius, centerX + radius, centerY + radius, results);
+    }
+
+    /**
+     * Finds every item that shares a cell with the area swept by the bounding circle of a {@link Hitbox} over a
+     * straight motion.
+     * @param hitbox The hitbox, placed where the motion ends.
+     * @param motionX How far the hitbox has moved on the x-axis.
+     * @param motionY How far the hitbox has moved on the y-axis.
+     * @param results The list to add the items to, which is not cleared beforehand.
+     * @see SpatialHashGrid#query(float, float, float, float, ObjectList)
+     */
+    public void query(Hitbox hitbox, float motionX, float motionY, ObjectList<? super T> results) {
+        val centerX = hitbox.getCenterX();
+        val centerY = hitbox.getCenterY();
+        val radius = hitbox.getBoundingRadius();
+        query(centerX - radius - Math.max(motionX, 0), centerY - radius - Math.max(motionY, 0),
+                centerX + radius - Math.min(motionX, 0), centerY + radius - Math.min(motionY, 0), results);
+    }
+
+    /**
+     * Finds every item that shares a cell with an area.
+     * @param bounds The area.
+     * @param results The list to add the items to, which is not cleared beforehand.
+     * @see SpatialHashGrid#query(float, float, float, float, ObjectList)
+     */
+    public void query(Rectangle bounds, ObjectList<? super T> results) {
+        query(bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height, results);
+    }
+
+    /**
+     * Adds an entry to every cell in its range.
+     * @param entry The entry to add.
+     */
+    private void link(Entry<T> entry) {
+        for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+            for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+                val key = key(cellX, cellY);
+                ObjectList<Entry<T>> cellEntries = cells.get(key);
+                if (cellEntries == null) {
+                    cellEntries = new ObjectArrayList<>(4);
+                    cells.put(key, cellEntries);
+                }
+                cellEntries.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Removes an entry from every cell in its range, forgetting cells that become empty.
+     * @param entry The entry to remove.
+     */
+    private void unlink(Entry<T> entry) {
+        for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+            for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+                val key = key(cellX, cellY);
+                val cellEntries = cells.get(key);
+                if (cellEntries == null) {
+                    continue;
+                }
+                val index = cellEntries.indexOf(entry);
+                if (index != -1) {
+                    val last = cellEntries.size() - 1;
+                    cellEntries.set(index, cellEntries.get(last));
+                    cellEntries.remove(last);
+                }
+                if (cellEntries.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the cell coordinate of a world coordinate.
+     * @param coordinate The world coordinate.
+     * @return The cell coordinate.
+     */
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    /**
+     * Packs the coordinates of a cell into a single key.
+     * @param cellX The x-coordinate of the cell.
+     * @param cellY The y-coordinate of the cell.
+     * @return The key of the cell.
+     */
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * An item in the grid and the range of cells it is in.
+     * @param <T> The type of item.
+     */
+    private static final class Entry<T> {
+        private final T item;
+        private int minCellX;
+        private int minCellY;
+        private int maxCellX;
+        private int maxCellY;
+        private int queryStamp;
+
+        private Entry(T item) {
+            this.item = item;
+        }
+
+        private boolean covers(int minCellX, int minCellY, int maxCellX, int maxCellY) {
+            return this.minCellX == minCellX && this.minCellY == minCellY
+                    && this.maxCellX == maxCellX && this.maxCellY == maxCellY;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Classes that find and test collisions between {@link com.github.moribund.objects.attributes.Collidable}s and
+ * {@link com.github.moribund.objects.nonplayable.projectile.Projectile}s.
+ */
+package com.github.moribund.objects.collision;
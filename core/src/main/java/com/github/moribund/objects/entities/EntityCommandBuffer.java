@@ -0,0 +1,167 @@
+package com.github.moribund.objects.entities;
+
+import com.badlogic.gdx.utils.Pool;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import lombok.val;
+
+/**
+ * The {@code EntityCommandBuffer} records every entity that is added to or removed from a {@link HandleArray}
+ * rather than changing the array straight away, and applies the changes when it is
+ * {@link EntityCommandBuffer#flush()}ed at set points in the frame. Arrays can then be iterated without being changed
+ * from under the iteration, be it by an entity removing itself while it is drawn or by the network thread. Removals
+ * from the same array are applied together with {@link HandleArray#removeAll(IntArrayList)}, which compacts the array
+ * once for the whole batch.
+ * <p>
+ * Commands can be recorded from any thread. They are recorded into one set of lists while the other is being applied,
+ * so the lock is only held long enough to record a command or to swap the lists.
+ */
+public final class EntityCommandBuffer {
+
+    /**
+     * The most times a flush will apply newly recorded commands before leaving them for the next flush, as commands
+     * can be recorded by other threads while a flush is running.
+     */
+    private static final int MAX_PASSES = 4;
+
+    /**
+     * The commands being recorded.
+     */
+    private Commands recording;
+
+    /**
+     * The commands being applied.
+     */
+    private Commands applying;
+
+    /**
+     * Makes an empty buffer.
+     */
+    public EntityCommandBuffer() {
+        recording = new Commands();
+        applying = new Commands();
+    }
+
+    /**
+     * Records an entity to be added to an array.
+     * @param array The array to add the entity to.
+     * @param handle The handle of the entity.
+     * @param item The entity.
+     * @param <T> The type of entity in the array.
+     */
+    public synchronized <T> void add(HandleArray<T> array, int handle, T item) {
+        recording.addArrays.add(array);
+        recording.addHandles.add(handle);
+        recording.addItems.add(item);
+    }
+
+    /**
+     * Records an entity to be removed from an array. Removing an entity that is not in the array by the time the
+     * buffer is flushed does nothing.
+     * @param array The array to remove the entity from.
+     * @param handle The handle of the entity.
+     */
+    public synchronized void remove(HandleArray<?> array, int handle) {
+        IntArrayList handles = recording.removals.get(array);
+        if (handles == null) {
+            handles = new IntArrayList();
+            recording.removals.put(array, handles);
+        }
+        handles.add(handle);
+    }
+
+    /**
+     * Records an object to be given back to its pool once the removals have been applied, so that an object is never
+     * reset while it can still be reached from an array.
+     * @param pool The pool to give the object back to.
+     * @param item The object.
+     * @param <T> The type of object in the pool.
+     */
+    public synchronized <T> void release(Pool<T> pool, T item) {
+        recording.releasePools.add(pool);
+        recording.releaseItems.add(item);
+    }
+
+    /**
+     * Applies every recorded command: the additions in the order they were recorded, then the removals, then the
+     * releases. This must only be called from whichever thread steps the
+     * {@link com.github.moribund.simulation.Simulation}, as that thread owns the arrays, and never while an array is
+     * being iterated.
+     */
+    public void flush() {
+        for (int pass = 0; pass < MAX_PASSES; pass++) {
+            synchronized (this) {
+                if (recording.isEmpty()) {
+                    return;
+                }
+                val swap = applying;
+                applying = recording;
+                recording = swap;
+            }
+            applying.apply();
+        }
+    }
+
+    /**
+     * Forgets every recorded command without applying it, as is done when the arrays themselves are cleared.
+     */
+    public synchronized void clear() {
+        recording.clear();
+    }
+
+    /**
+     * A set of recorded commands, kept in parallel lists so that recording a command does not allocate.
+     */
+    private static final class Commands {
+        private final ObjectArrayList<HandleArray<?>> addArrays = new ObjectArrayList<>();
+        private final IntArrayList addHandles = new IntArrayList();
+        private final ObjectArrayList<Object> addItems = new ObjectArrayList<>();
+        private final Reference2ObjectMap<HandleArray<?>, IntArrayList> removals = new Reference2ObjectOpenHashMap<>();
+        private final ObjectArrayList<Pool<?>> releasePools = new ObjectArrayList<>();
+        private final ObjectArrayList<Object> releaseItems = new ObjectArrayList<>();
+
+        private boolean isEmpty() {
+            if (!addArrays.isEmpty() || !releasePools.isEmpty()) {
+                return false;
+            }
+            for (val handles : removals.values()) {
+                if (!handles.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void apply() {
+            for (int i = 0; i < addArrays.size(); i++) {
+                ((HandleArray<Object>) addArrays.get(i)).add(addHandles.getInt(i), addItems.get(i));
+            }
+            for (val entry : removals.reference2ObjectEntrySet()) {
+                if (!entry.getValue().isEmpty()) {
+                    entry.getKey().removeAll(entry.getValue());
+                }
+            }
+            for (int i = 0; i < releasePools.size(); i++) {
+                ((Pool<Object>) releasePools.get(i)).free(releaseItems.get(i));
+            }
+            clear();
+        }
+
+        /**
+         * Empties every list, keeping the removal lists of each array to be reused.
+         */
+        private void clear() {
+            addArrays.clear();
+            addHandles.clear();
+            addItems.clear();
+            for (val handles : removals.values()) {
+                handles.clear();
+            }
+            releasePools.clear();
+            releaseItems.clear();
+        }
+    }
+}
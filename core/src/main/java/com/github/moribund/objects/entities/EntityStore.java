@@ -0,0 +1,427 @@
+package com.github.moribund.objects.entities;
+
+import com.badlogic.gdx.math.MathUtils;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import lombok.Getter;
+import lombok.val;
+
+import java.util.Arrays;
+
+/**
+ * The {@code EntityStore} holds the positions, rotations, and velocities of every entity in the world as
+ * <a href="https://en.wikipedia.org/wiki/AoS_and_SoA">structure-of-arrays</a>, indexed by a dense slot that is
+ * given to each entity when it is made. Keeping this state in primitive arrays rather than inside every entity's
+ * {@link com.badlogic.gdx.graphics.g2d.Sprite} and {@link com.badlogic.gdx.math.Polygon} allows for movement,
+ * snapshot application, and culling to run as tight loops over contiguous memory.
+ * <p>
+ * The world is simulated in fixed ticks, and the store keeps the position and rotation of every slot from the
+ * previous tick as well as the current one. The store itself is only used by the simulation; at the end of a tick
+ * both are copied into the {@link EntityStore#renderState}, which sprites are drawn from, between the two, so that
+ * movement looks smooth at any frame rate.
+ */
+public final class EntityStore {
+
+    /**
+     * The amount of slots the store starts off with.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The amount of low bits of a handle that hold the slot. The remaining high bits hold the generation.
+     */
+    private static final int SLOT_BITS = 20;
+
+    /**
+     * The mask of the slot bits of a handle.
+     */
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+    /**
+     * The mask of a generation once shifted down from a handle.
+     */
+    private static final int GENERATION_MASK = (1 << (Integer.SIZE - SLOT_BITS)) - 1;
+
+    /**
+     * A handle that never refers to an entity.
+     */
+    public static final int NO_HANDLE = -1;
+
+    /**
+     * The x-coordinates of each slot.
+     */
+    private float[] x;
+
+    /**
+     * The y-coordinates of each slot.
+     */
+    private float[] y;
+
+    /**
+     * The rotational angles, in degrees, of each slot.
+     */
+    private float[] rotation;
+
+    /**
+     * The x-coordinates of each slot as of the previous tick.
+     */
+    private float[] previousX;
+
+    /**
+     * The y-coordinates of each slot as of the previous tick.
+     */
+    private float[] previousY;
+
+    /**
+     * The rotational angles, in degrees, of each slot as of the previous tick.
+     */
+    private float[] previousRotation;
+
+    /**
+     * If the slot has a previous tick to be drawn from. A slot that was only just given out has not, and is drawn
+     * where it currently is until the next tick.
+     */
+    private boolean[] interpolated;
+
+    /**
+     * The x-velocities of each slot, in pixels per cycle.
+     */
+    private float[] velocityX;
+
+    /**
+     * The y-velocities of each slot, in pixels per cycle.
+     */
+    private float[] velocityY;
+
+    /**
+     * A counter of each slot that goes up every time its position or rotation is changed, so that anything derived
+     * from the transform of a slot, such as a {@link com.github.moribund.objects.collision.Hitbox}, can tell if it
+     * is out of date by comparing a single int.
+     */
+    private int[] transformVersion;
+
+    /**
+     * The {@link com.github.moribund.objects.flags.Flag} bits of each slot.
+     */
+    private int[] flags;
+
+    /**
+     * If the slot is occupied by an entity.
+     */
+    private boolean[] alive;
+
+    /**
+     * The generation of each slot, which goes up every time the slot is freed so that handles to the entity that
+     * used to be in it become stale.
+     */
+    private int[] generation;
+
+    /**
+     * The slots below {@link EntityStore#size} that have been freed and can be given out again.
+     */
+    private final IntArrayList freeSlots;
+
+    /**
+     * The copy of the store that is drawn from.
+     */
+    @Getter
+    private final RenderState renderState;
+
+    /**
+     * One past the highest slot ever given out. All loops over the store run up to this bound.
+     */
+    @Getter
+    private int size;
+
+    /**
+     * Makes an empty store.
+     */
+    public EntityStore() {
+        freeSlots = new IntArrayList();
+        renderState = new RenderState();
+        allocateArrays(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Gives out a slot for a new entity. The slot starts at the origin with no rotation or velocity.
+     * @return The slot of the entity.
+     */
+    public int allocate() {
+        final int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.popInt();
+        } else {
+            if (size == x.length) {
+                grow();
+            }
+            slot = size++;
+        }
+        x[slot] = 0;
+        y[slot] = 0;
+        rotation[slot] = 0;
+        transformVersion[slot]++;
+        velocityX[slot] = 0;
+        velocityY[slot] = 0;
+        flags[slot] = 0;
+        interpolated[slot] = false;
+        alive[slot] = true;
+        return slot;
+    }
+
+    /**
+     * Frees the slot of an entity that has left the world. Freeing an already freed slot does nothing.
+     * @param slot The slot of the entity.
+     */
+    public void free(int slot) {
+        if (slot < 0 || slot >= size || !alive[slot]) {
+            return;
+        }
+        alive[slot] = false;
+        generation[slot] = (generation[slot] + 1) & GENERATION_MASK;
+        freeSlots.add(slot);
+    }
+
+    /**
+     * Frees every slot at once, as is done when a game ends.
+     */
+    public void clear() {
+        for (int slot = 0; slot < size; slot++) {
+            if (alive[slot]) {
+                generation[slot] = (generation[slot] + 1) & GENERATION_MASK;
+            }
+        }
+        Arrays.fill(alive, 0, size, false);
+        freeSlots.clear();
+        size = 0;
+        renderState.clear();
+    }
+
+    public boolean isAlive(int slot) {
+        return slot >= 0 && slot < size && alive[slot];
+    }
+
+    /**
+     * Gets the handle of the entity currently in a slot. Unlike the slot, which is given out again once it is freed,
+     * a handle only ever refers to the one entity, and becomes stale once that entity is freed.
+     * @param slot The slot of the entity.
+     * @return The handle of the entity.
+     */
+    public int getHandle(int slot) {
+        return generation[slot] << SLOT_BITS | slot;
+    }
+
+    /**
+     * Checks if a handle still refers to an entity in the store.
+     * @param handle The handle of the entity.
+     * @return If the entity the handle refers to has not been freed.
+     */
+    public boolean isCurrent(int handle) {
+        if (handle == NO_HANDLE) {
+            return false;
+        }
+        val slot = slotOf(handle);
+        return isAlive(slot) && getHandle(slot) == handle;
+    }
+
+    /**
+     * Gets the slot that a handle refers to.
+     * @param handle The handle of the entity.
+     * @return The slot of the entity.
+     */
+    public static int slotOf(int handle) {
+        return handle & SLOT_MASK;
+    }
+
+    public float getX(int slot) {
+        return x[slot];
+    }
+
+    public float getY(int slot) {
+        return y[slot];
+    }
+
+    public float getRotation(int slot) {
+        return rotation[slot];
+    }
+
+    public float getVelocityX(int slot) {
+        return velocityX[slot];
+    }
+
+    public float getVelocityY(int slot) {
+        return velocityY[slot];
+    }
+
+    /**
+     * Gets the counter of a slot that goes up every time its position or rotation is changed.
+     * @param slot The slot of the entity.
+     * @return The version of the transform of the slot.
+     */
+    public int getTransformVersion(int slot) {
+        return transformVersion[slot];
+    }
+
+    public void setX(int slot, float x) {
+        this.x[slot] = x;
+        transformVersion[slot]++;
+    }
+
+    public void setY(int slot, float y) {
+        this.y[slot] = y;
+        transformVersion[slot]++;
+    }
+
+    public void setRotation(int slot, float rotation) {
+        this.rotation[slot] = rotation;
+        transformVersion[slot]++;
+    }
+
+    /**
+     * Sets the position and rotation of a slot at once, as is done when applying a snapshot from the server.
+     * @param slot The slot of the entity.
+     * @param x The new x-coordinate.
+     * @param y The new y-coordinate.
+     * @param rotation The new rotational angle.
+     */
+    public void setTransform(int slot, float x, float y, float rotation) {
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.rotation[slot] = rotation;
+        transformVersion[slot]++;
+    }
+
+    public int getFlags(int slot) {
+        return flags[slot];
+    }
+
+    /**
+     * Sets a set of {@link com.github.moribund.objects.flags.Flag}s on a slot.
+     * @param slot The slot of the entity.
+     * @param mask The bits of the flags.
+     */
+    public void setFlags(int slot, int mask) {
+        flags[slot] |= mask;
+    }
+
+    /**
+     * Clears a set of {@link com.github.moribund.objects.flags.Flag}s from a slot.
+     * @param slot The slot of the entity.
+     * @param mask The bits of the flags.
+     */
+    public void clearFlags(int slot, int mask) {
+        flags[slot] &= ~mask;
+    }
+
+    /**
+     * Sets the velocity of a slot.
+     * @param slot The slot of the entity.
+     * @param velocityX The new x-velocity, in pixels per cycle.
+     * @param velocityY The new y-velocity, in pixels per cycle.
+     */
+    public void setVelocity(int slot, float velocityX, float velocityY) {
+        this.velocityX[slot] = velocityX;
+        this.velocityY[slot] = velocityY;
+    }
+
+    /**
+     * Sets the velocity of a slot to a speed in the direction of its current rotation.
+     * @param slot The slot of the entity.
+     * @param speed The speed, in pixels per cycle.
+     */
+    public void setVelocityFromRotation(int slot, float speed) {
+        velocityX[slot] = speed * MathUtils.cosDeg(rotation[slot]);
+        velocityY[slot] = speed * MathUtils.sinDeg(rotation[slot]);
+    }
+
+    /**
+     * Moves a slot by a given amount.
+     * @param slot The slot of the entity.
+     * @param deltaX The amount to move on the x-axis.
+     * @param deltaY The amount to move on the y-axis.
+     */
+    public void translate(int slot, float deltaX, float deltaY) {
+        if (deltaX == 0 && deltaY == 0) {
+            return;
+        }
+        x[slot] += deltaX;
+        y[slot] += deltaY;
+        transformVersion[slot]++;
+    }
+
+    /**
+     * Moves a slot by its velocity, or against it should the slot be going backwards.
+     * @param slot The slot of the entity.
+     * @param backwards If the slot is moving against its velocity.
+     */
+    public void advance(int slot, boolean backwards) {
+        val direction = backwards ? -1 : 1;
+        translate(slot, direction * velocityX[slot], direction * velocityY[slot]);
+    }
+
+    /**
+     * Keeps the current position and rotation of every live slot as that of the previous tick. This is done at the
+     * start of every tick, before anything moves.
+     */
+    public void snapshot() {
+        System.arraycopy(x, 0, previousX, 0, size);
+        System.arraycopy(y, 0, previousY, 0, size);
+        System.arraycopy(rotation, 0, previousRotation, 0, size);
+        System.arraycopy(alive, 0, interpolated, 0, size);
+    }
+
+    /**
+     * Copies the current and previous tick of every slot into a buffer of the {@link EntityStore#renderState}.
+     * @param frame The buffer to copy into.
+     */
+    void copyTo(RenderState.Frame frame) {
+        frame.ensureCapacity(x.length);
+        System.arraycopy(x, 0, frame.x, 0, size);
+        System.arraycopy(y, 0, frame.y, 0, size);
+        System.arraycopy(rotation, 0, frame.rotation, 0, size);
+        System.arraycopy(previousX, 0, frame.previousX, 0, size);
+        System.arraycopy(previousY, 0, frame.previousY, 0, size);
+        System.arraycopy(previousRotation, 0, frame.previousRotation, 0, size);
+        System.arraycopy(interpolated, 0, frame.interpolated, 0, size);
+        System.arraycopy(alive, 0, frame.alive, 0, size);
+        frame.size = size;
+    }
+
+    /**
+     * Doubles the capacity of every array.
+     */
+    private void grow() {
+        val capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        transformVersion = Arrays.copyOf(transformVersion, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        previousRotation = Arrays.copyOf(previousRotation, capacity);
+        interpolated = Arrays.copyOf(interpolated, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        generation = Arrays.copyOf(generation, capacity);
+    }
+
+    /**
+     * Allocates every array at a given capacity.
+     * @param capacity The capacity of the arrays.
+     */
+    private void allocateArrays(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        rotation = new float[capacity];
+        transformVersion = new int[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        previousRotation = new float[capacity];
+        interpolated = new boolean[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        flags = new int[capacity];
+        alive = new boolean[capacity];
+        generation = new int[capacity];
+    }
+}
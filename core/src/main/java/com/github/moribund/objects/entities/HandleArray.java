@@ -0,0 +1,260 @@
+package com.github.moribund.objects.entities;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import lombok.val;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * A {@code HandleArray} is a list of entities keyed by their {@link EntityStore} handles. The entities are kept
+ * packed together in a dense array for iteration, and a sparse array indexed by slot points into it, so that adding,
+ * finding, and removing an entity all take constant time rather than a scan of the list. Removal swaps the last
+ * entity into the removed one's place, so the order of the list is not kept. A handle whose entity has since been
+ * freed and replaced is stale, and is simply not found.
+ *
+ * @param <T> The type of entity in the array.
+ */
+public final class HandleArray<T> implements Iterable<T> {
+
+    /**
+     * The amount of entities the array starts off with room for.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The entities, packed together up to {@link HandleArray#size}.
+     */
+    private T[] items;
+
+    /**
+     * The handle of each entity in {@link HandleArray#items}.
+     */
+    private int[] handles;
+
+    /**
+     * The index in {@link HandleArray#items} of the entity in each slot, or -1 should the slot have no entity.
+     */
+    private int[] indices;
+
+    /**
+     * The amount of entities in the array.
+     */
+    private int size;
+
+    /**
+     * Makes an empty array.
+     */
+    @SuppressWarnings("unchecked")
+    public HandleArray() {
+        items = (T[]) new Object[INITIAL_CAPACITY];
+        handles = new int[INITIAL_CAPACITY];
+        indices = new int[INITIAL_CAPACITY];
+        Arrays.fill(indices, -1);
+    }
+
+    /**
+     * Adds an entity to the array. An entity that is already in the array is not added again, and a stale entity in
+     * the same slot is replaced.
+     * @param handle The handle of the entity.
+     * @param item The entity.
+     * @return If the entity was not already in the array.
+     */
+    public boolean add(int handle, T item) {
+        val slot = EntityStore.slotOf(handle);
+        if (slot >= indices.length) {
+            val oldLength = indices.length;
+            indices = Arrays.copyOf(indices, Math.max(slot + 1, oldLength * 2));
+            Arrays.fill(indices, oldLength, indices.length, -1);
+        }
+
+        val existing = indices[slot];
+        if (existing != -1) {
+            if (handles[existing] == handle) {
+                return false;
+            }
+            handles[existing] = handle;
+            items[existing] = item;
+            return true;
+        }
+
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+            handles = Arrays.copyOf(handles, size * 2);
+        }
+        items[size] = item;
+        handles[size] = handle;
+        indices[slot] = size;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes an entity from the array by moving the last entity into its place.
+     * @param handle The handle of the entity.
+     * @return If the entity was in the array, which is false should the handle be stale.
+     */
+    public boolean remove(int handle) {
+        val slot = EntityStore.slotOf(handle);
+        val index = indexOf(handle);
+        if (index == -1) {
+            return false;
+        }
+
+        val last = --size;
+        if (index != last) {
+            items[index] = items[last];
+            handles[index] = handles[last];
+            indices[EntityStore.slotOf(handles[index])] = index;
+        }
+        items[last] = null;
+        indices[slot] = -1;
+        return true;
+    }
+
+    /**
+     * Removes a batch of entities at once. Rather than swapping each one out, the removed entities are marked and the
+     * array is then compacted in a single pass, which also keeps the order of the entities that remain. A batch of
+     * one is swapped out as by {@link HandleArray#remove(int)}.
+     * @param removals The handles of the entities. Stale handles, and handles of entities not in the array, are
+     *                 skipped.
+     */
+    public void removeAll(IntArrayList removals) {
+        if (removals.size() == 1) {
+            remove(removals.getInt(0));
+            return;
+        }
+
+        int removed = 0;
+        for (int i = 0; i < removals.size(); i++) {
+            val handle = removals.getInt(i);
+            val index = indexOf(handle);
+            if (index != -1) {
+                indices[EntityStore.slotOf(handle)] = -1;
+                handles[index] = EntityStore.NO_HANDLE;
+                removed++;
+            }
+        }
+        if (removed == 0) {
+            return;
+        }
+
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (handles[read] == EntityStore.NO_HANDLE) {
+                continue;
+            }
+            if (write != read) {
+                items[write] = items[read];
+                handles[write] = handles[read];
+                indices[EntityStore.slotOf(handles[write])] = write;
+            }
+            write++;
+        }
+        for (int i = write; i < size; i++) {
+            items[i] = null;
+        }
+        size = write;
+    }
+
+    /**
+     * Checks if an entity is in the array.
+     * @param handle The handle of the entity.
+     * @return If the entity is in the array, which is false should the handle be stale.
+     */
+    public boolean contains(int handle) {
+        return indexOf(handle) != -1;
+    }
+
+    /**
+     * Finds an entity by its handle.
+     * @param handle The handle of the entity.
+     * @return The entity, or null should it not be in the array or the handle be stale.
+     */
+    public T find(int handle) {
+        val index = indexOf(handle);
+        return index == -1 ? null : items[index];
+    }
+
+    /**
+     * Gets an entity by its position in the dense array, for iterating by index.
+     * @param index The position of the entity, below {@link HandleArray#size()}.
+     * @return The entity.
+     */
+    public T get(int index) {
+        return items[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entity from the array.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            indices[EntityStore.slotOf(handles[i])] = -1;
+            items[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Runs an action on every entity, from the last to the first. Going backwards means that an entity may remove
+     * itself from the array during the action without another entity being skipped, as only an entity that has
+     * already been visited is moved into its place. Entities added during the action are not visited.
+     * @param action The action to run.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (i < size) {
+                action.accept(items[i]);
+            }
+        }
+    }
+
+    @Override
+    public ObjectIterator<T> iterator() {
+        return new ObjectIterator<T>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return items[next++];
+            }
+        };
+    }
+
+    /**
+     * Gets the position of an entity in the dense array.
+     * @param handle The handle of the entity.
+     * @return The position of the entity, or -1 should it not be in the array or the handle be stale.
+     */
+    private int indexOf(int handle) {
+        if (handle == EntityStore.NO_HANDLE) {
+            return -1;
+        }
+        val slot = EntityStore.slotOf(handle);
+        if (slot >= indices.length) {
+            return -1;
+        }
+        val index = indices[slot];
+        return index != -1 && handles[index] == handle ? index : -1;
+    }
+}
@@ -0,0 +1,295 @@
+package com.github.moribund.objects.entities;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.github.moribund.graphics.drawables.DrawableGameAsset;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.Getter;
+import lombok.val;
+
+import java.util.Arrays;
+
+/**
+ * The {@code RenderState} is what the render thread draws the world from. It is double-buffered: the simulation
+ * {@link RenderState#publish publishes} a copy of the {@link EntityStore} and of what is to be drawn into the back
+ * buffer at the end of a tick, and the render thread {@link RenderState#acquire() acquires} the most recently
+ * published buffer as the front buffer at the start of a frame, so the render thread never sees a tick half-way
+ * through. Should the two ever run on different threads, they only wait on each other for the length of that copy.
+ * <p>
+ * The drawables are published along with the slot each of them has at the time, and are only ever drawn from that
+ * slot. Once published, a drawable can still be removed and, should it be pooled, launched again into a new slot
+ * before the render thread is done with the buffer, so nothing the simulation changes on it is read when drawing.
+ * <p>
+ * Everything apart from {@link RenderState#publish} is only to be called from the render thread.
+ */
+public final class RenderState {
+
+    /**
+     * The buffer that is being drawn from.
+     */
+    private Frame front;
+
+    /**
+     * The buffer that is published into.
+     */
+    private Frame back;
+
+    /**
+     * If the {@link RenderState#back} buffer has been published into since the render thread last acquired.
+     */
+    private boolean published;
+
+    /**
+     * How far the frame being drawn is from the previous tick of the {@link RenderState#front} buffer to its
+     * current one, between 0 and 1.
+     */
+    @Getter
+    private float interpolation = 1;
+
+    /**
+     * Makes an empty render state.
+     */
+    RenderState() {
+        front = new Frame();
+        back = new Frame();
+    }
+
+    /**
+     * Copies the current state of the world into the back buffer, replacing anything published before it that
+     * the render thread has not yet acquired.
+     * @param store The store of every entity.
+     * @param groundItems The ground items, which are drawn first.
+     * @param drawables The rest of the entities to draw, on top of the ground items.
+     * @param inputTime The {@link System#nanoTime()} of the oldest input that has been applied since the last
+     *                  publish, or 0 should there be none.
+     */
+    public synchronized void publish(EntityStore store, HandleArray<? extends DrawableGameAsset> groundItems,
+                                     HandleArray<? extends DrawableGameAsset> drawables, long inputTime) {
+        // an input that was published but never acquired is still waiting to be seen
+        if (published && back.inputTime != 0 && (inputTime == 0 || back.inputTime < inputTime)) {
+            inputTime = back.inputTime;
+        }
+        store.copyTo(back);
+        back.copyDrawables(groundItems, back.groundItems, back.groundItemSlots);
+        back.copyDrawables(drawables, back.drawables, back.drawableSlots);
+        back.inputTime = inputTime;
+        published = true;
+    }
+
+    /**
+     * Makes the most recently published buffer the front buffer, should anything have been published since the
+     * last frame.
+     * @return If the front buffer changed.
+     */
+    public synchronized boolean acquire() {
+        if (!published) {
+            return false;
+        }
+        val previousFront = front;
+        front = back;
+        back = previousFront;
+        published = false;
+        return true;
+    }
+
+    /**
+     * Sets how far the frame about to be drawn is from the previous tick to the current one.
+     * @param interpolation The fraction of a tick, between 0 and 1.
+     */
+    public void setInterpolation(float interpolation) {
+        this.interpolation = interpolation;
+    }
+
+    /**
+     * Takes the time of the oldest input that first shows in the front buffer, so that it is only counted once.
+     * @return The {@link System#nanoTime()} of the input, or 0 should there be none.
+     */
+    public long takeInputTime() {
+        val inputTime = front.inputTime;
+        front.inputTime = 0;
+        return inputTime;
+    }
+
+    /**
+     * Draws the ground items of the front buffer, then the rest of its drawables on top of them, each from the slot
+     * it had when the buffer was published.
+     * @param batch The batch to draw to, which has been begun.
+     */
+    public void draw(Batch batch) {
+        draw(batch, front.groundItems, front.groundItemSlots);
+        draw(batch, front.drawables, front.drawableSlots);
+    }
+
+    private static void draw(Batch batch, ObjectList<DrawableGameAsset> drawables, IntList slots) {
+        for (int i = 0; i < drawables.size(); i++) {
+            drawables.get(i).draw(batch, slots.getInt(i));
+        }
+    }
+
+    /**
+     * Gets the x-coordinate of a slot as it should be drawn this frame.
+     * @param slot The slot of the entity.
+     * @return The x-coordinate between the previous tick and the current one.
+     */
+    public float getInterpolatedX(int slot) {
+        if (slot >= front.size) {
+            return 0;
+        }
+        return front.interpolated[slot]
+                ? front.previousX[slot] + (front.x[slot] - front.previousX[slot]) * interpolation : front.x[slot];
+    }
+
+    /**
+     * Gets the y-coordinate of a slot as it should be drawn this frame.
+     * @param slot The slot of the entity.
+     * @return The y-coordinate between the previous tick and the current one.
+     */
+    public float getInterpolatedY(int slot) {
+        if (slot >= front.size) {
+            return 0;
+        }
+        return front.interpolated[slot]
+                ? front.previousY[slot] + (front.y[slot] - front.previousY[slot]) * interpolation : front.y[slot];
+    }
+
+    /**
+     * Gets the rotational angle of a slot as it should be drawn this frame, turning the short way round.
+     * @param slot The slot of the entity.
+     * @return The rotational angle between the previous tick and the current one.
+     */
+    public float getInterpolatedRotation(int slot) {
+        if (slot >= front.size) {
+            return 0;
+        }
+        if (!front.interpolated[slot]) {
+            return front.rotation[slot];
+        }
+        float turn = (front.rotation[slot] - front.previousRotation[slot]) % 360;
+        if (turn > 180) {
+            turn -= 360;
+        } else if (turn < -180) {
+            turn += 360;
+        }
+        return front.previousRotation[slot] + turn * interpolation;
+    }
+
+    /**
+     * Marks which slots of the front buffer are within a rectangle of the world, which is typically the camera's
+     * view grown by the size of the largest sprite, so that entities outside of it can skip drawing.
+     * @param left The left bound of the rectangle.
+     * @param bottom The bottom bound of the rectangle.
+     * @param right The right bound of the rectangle.
+     * @param top The top bound of the rectangle.
+     */
+    public void cull(float left, float bottom, float right, float top) {
+        for (int slot = 0; slot < front.size; slot++) {
+            val slotX = front.x[slot];
+            val slotY = front.y[slot];
+            front.visible[slot] = front.alive[slot] && slotX >= left && slotX <= right && slotY >= bottom && slotY <= top;
+        }
+    }
+
+    /**
+     * Checks if a slot was within the view the last time the front buffer was culled. A slot that was given out
+     * after the front buffer was published is not visible.
+     * @param slot The slot of the entity.
+     * @return If the slot is visible.
+     */
+    public boolean isVisible(int slot) {
+        return slot >= 0 && slot < front.size && front.visible[slot];
+    }
+
+    /**
+     * Brings a {@link Sprite} up to date with the position and rotation of a slot, between the previous tick and the
+     * current one. This is only done just before the sprite is drawn. The sprite is only touched should it have
+     * moved, so that an entity standing still never has its vertices recomputed.
+     * @param slot The slot of the entity.
+     * @param sprite The sprite of the entity.
+     */
+    public void syncSprite(int slot, Sprite sprite) {
+        val x = getInterpolatedX(slot);
+        val y = getInterpolatedY(slot);
+        if (sprite.getX() != x || sprite.getY() != y) {
+            sprite.setPosition(x, y);
+        }
+        val rotation = getInterpolatedRotation(slot);
+        if (sprite.getRotation() != rotation) {
+            sprite.setRotation(rotation);
+        }
+    }
+
+    /**
+     * Empties both buffers, as is done when a game ends.
+     */
+    public synchronized void clear() {
+        front.clear();
+        back.clear();
+        published = false;
+    }
+
+    /**
+     * A single copy of the world as of the end of a tick.
+     */
+    static final class Frame {
+        float[] x = new float[0];
+        float[] y = new float[0];
+        float[] rotation = new float[0];
+        float[] previousX = new float[0];
+        float[] previousY = new float[0];
+        float[] previousRotation = new float[0];
+        boolean[] interpolated = new boolean[0];
+        boolean[] alive = new boolean[0];
+        boolean[] visible = new boolean[0];
+        int size;
+        long inputTime;
+        private final ObjectList<DrawableGameAsset> groundItems = new ObjectArrayList<>();
+        private final ObjectList<DrawableGameAsset> drawables = new ObjectArrayList<>();
+        private final IntList groundItemSlots = new IntArrayList();
+        private final IntList drawableSlots = new IntArrayList();
+
+        /**
+         * Grows every array to at least a given capacity, which only happens as often as the store itself grows.
+         * @param capacity The capacity of the store being copied.
+         */
+        void ensureCapacity(int capacity) {
+            if (x.length >= capacity) {
+                return;
+            }
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            rotation = Arrays.copyOf(rotation, capacity);
+            previousX = Arrays.copyOf(previousX, capacity);
+            previousY = Arrays.copyOf(previousY, capacity);
+            previousRotation = Arrays.copyOf(previousRotation, capacity);
+            interpolated = Arrays.copyOf(interpolated, capacity);
+            alive = Arrays.copyOf(alive, capacity);
+            visible = Arrays.copyOf(visible, capacity);
+        }
+
+        /**
+         * Copies the items of a {@link HandleArray} in the order that it iterates them, along with the slot of each.
+         */
+        private void copyDrawables(HandleArray<? extends DrawableGameAsset> source,
+                                   ObjectList<DrawableGameAsset> destination, IntList slots) {
+            destination.clear();
+            slots.clear();
+            for (int i = source.size() - 1; i >= 0; i--) {
+                val drawable = source.get(i);
+                destination.add(drawable);
+                slots.add(drawable.getSlot());
+            }
+        }
+
+        private void clear() {
+            size = 0;
+            inputTime = 0;
+            groundItems.clear();
+            drawables.clear();
+            groundItemSlots.clear();
+            drawableSlots.clear();
+        }
+    }
+}
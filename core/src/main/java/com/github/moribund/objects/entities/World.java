@@ -0,0 +1,142 @@
+package com.github.moribund.objects.entities;
+
+import com.github.moribund.objects.attributes.Stored;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import lombok.val;
+
+/**
+ * The {@code World} is the registry of every entity in the game. An entity is {@link World#add added} to it once,
+ * and it is then put into every view that it belongs to, such as all the drawables or all the flaggables; removing it
+ * takes it out of all of them again. A view is a {@link HandleArray} of every entity of a type, kept up to date as
+ * entities come and go, so the systems that iterate a view never filter the world themselves.
+ * <p>
+ * The views an entity belongs to are worked out from its class the first time an entity of that class is added, and
+ * reused for every entity of the same class after it, so adding and removing never check types. Like every other
+ * change to a {@link HandleArray}, additions and removals are recorded into the {@link EntityCommandBuffer} and only
+ * show in the views once it is flushed.
+ */
+public final class World {
+
+    /**
+     * The buffer that additions to and removals from the views are recorded into.
+     */
+    private final EntityCommandBuffer commands;
+
+    /**
+     * Every view, in the order they were made.
+     */
+    private final ObjectList<View<?>> views;
+
+    /**
+     * The views each class of entity belongs to.
+     */
+    private final Reference2ObjectMap<Class<?>, View<?>[]> viewsForClass;
+
+    /**
+     * Makes an empty world.
+     * @param commands The buffer that additions to and removals from the views are recorded into.
+     */
+    public World(EntityCommandBuffer commands) {
+        this.commands = commands;
+        views = new ObjectArrayList<>();
+        viewsForClass = new Reference2ObjectOpenHashMap<>();
+    }
+
+    /**
+     * Makes a view of every entity of a type. Views are to be made before any entity is added.
+     * @param type The type of entity in the view.
+     * @param <T> The type of entity in the view.
+     * @return The entities of the type, in the order they were added.
+     */
+    public <T> HandleArray<T> view(Class<T> type) {
+        return view(type, null);
+    }
+
+    /**
+     * Makes a view of every entity of a type, apart from those of another. Views are to be made before any entity is
+     * added.
+     * @param type The type of entity in the view.
+     * @param excluded The type of entity to leave out of the view, or null to leave none out.
+     * @param <T> The type of entity in the view.
+     * @return The entities of the type, in the order they were added.
+     */
+    public synchronized <T> HandleArray<T> view(Class<T> type, Class<?> excluded) {
+        val view = new View<T>(type, excluded);
+        views.add(view);
+        viewsForClass.clear();
+        return view.entities;
+    }
+
+    /**
+     * Records an entity to be added to every view it belongs to.
+     * @param entity The entity, which must already have its slot in the {@link EntityStore}.
+     */
+    @SuppressWarnings("unchecked")
+    public void add(Stored entity) {
+        for (val view : getViews(entity.getClass())) {
+            commands.add((HandleArray<Object>) view.entities, entity.getHandle(), entity);
+        }
+    }
+
+    /**
+     * Records an entity to be removed from every view it belongs to.
+     * @param entity The entity, whose handle must not yet have been freed.
+     */
+    public void remove(Stored entity) {
+        for (val view : getViews(entity.getClass())) {
+            commands.remove(view.entities, entity.getHandle());
+        }
+    }
+
+    /**
+     * Empties every view, as is done when a game ends.
+     */
+    public synchronized void clear() {
+        for (val view : views) {
+            view.entities.clear();
+        }
+    }
+
+    /**
+     * Gets the views a class of entity belongs to, working them out should no entity of the class have been added
+     * before.
+     * @param entityClass The class of the entity.
+     * @return The views it belongs to.
+     */
+    private synchronized View<?>[] getViews(Class<?> entityClass) {
+        View<?>[] matching = viewsForClass.get(entityClass);
+        if (matching == null) {
+            val found = new ObjectArrayList<View<?>>();
+            for (val view : views) {
+                if (view.accepts(entityClass)) {
+                    found.add(view);
+                }
+            }
+            matching = found.toArray(new View<?>[0]);
+            viewsForClass.put(entityClass, matching);
+        }
+        return matching;
+    }
+
+    /**
+     * The entities of a type, apart from those of an excluded type.
+     * @param <T> The type of entity in the view.
+     */
+    private static final class View<T> {
+        private final Class<T> type;
+        private final Class<?> excluded;
+        private final HandleArray<T> entities = new HandleArray<>();
+
+        private View(Class<T> type, Class<?> excluded) {
+            this.type = type;
+            this.excluded = excluded;
+        }
+
+        private boolean accepts(Class<?> entityClass) {
+            return type.isAssignableFrom(entityClass) && (excluded == null || !excluded.isAssignableFrom(entityClass));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Classes that store the state of entities in the world independently of how they are drawn.
+ */
+package com.github.moribund.objects.entities;
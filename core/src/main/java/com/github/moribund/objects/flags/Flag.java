@@ -7,8 +7,58 @@ import com.github.moribund.objects.attributes.Flaggable;
  * a flagging system is in place is to allow for a decoupling of input logic being directly correlative to action,
  * but rather allowing a median between the two to allow for non-playable objects to also have the same actions
  * enacted on them.
+ * <p>
+ * The flags of an entity are kept as a bitmask in the {@link com.github.moribund.objects.entities.EntityStore}, where
+ * each flag is one of the bits below. The {@code Flag} objects in {@link FlagConstants} are kept as a way of naming
+ * those bits.
  */
 public interface Flag {
+    /**
+     * The bit of a {@link com.github.moribund.objects.attributes.FluidMovable} moving forward.
+     */
+    int MOVE_FORWARD = 1;
+
+    /**
+     * The bit of a {@link com.github.moribund.objects.attributes.FluidMovable} moving backwards.
+     */
+    int MOVE_BACKWARD = 1 << 1;
+
+    /**
+     * The bit of a {@link com.github.moribund.objects.attributes.RestrictedMovable} moving up.
+     */
+    int MOVE_UP = 1 << 2;
+
+    /**
+     * The bit of a {@link com.github.moribund.objects.attributes.RestrictedMovable} moving down.
+     */
+    int MOVE_DOWN = 1 << 3;
+
+    /**
+     * The bit of a {@link com.github.moribund.objects.attributes.RestrictedMovable} moving left.
+     */
+    int MOVE_LEFT = 1 << 4;
+
+    /**
+     * The bit of a {@link com.github.moribund.objects.attributes.RestrictedMovable} moving right.
+     */
+    int MOVE_RIGHT = 1 << 5;
+
+    /**
+     * The bit of a {@link com.github.moribund.objects.attributes.FluidMovable} rotating leftwards.
+     */
+    int ROTATE_LEFT = 1 << 6;
+
+    /**
+     * The bit of a {@link com.github.moribund.objects.attributes.FluidMovable} rotating rightwards.
+     */
+    int ROTATE_RIGHT = 1 << 7;
+
+    /**
+     * Gets the bit of the flag in an entity's flags.
+     * @return The bit of the flag.
+     */
+    int getMask();
+
     /**
      * The processing of the flag should it be in the {@link Flaggable}s list of {@code Flag}s.
      * @param flaggable The {@link Flaggable} object that this flag is enacting on.
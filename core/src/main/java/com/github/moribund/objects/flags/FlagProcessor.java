@@ -0,0 +1,161 @@
+package com.github.moribund.objects.flags;
+
+import com.github.moribund.objects.attributes.Flaggable;
+import com.github.moribund.objects.attributes.FluidMovable;
+import com.github.moribund.objects.attributes.RestrictedMovable;
+import com.github.moribund.objects.entities.EntityStore;
+import com.github.moribund.objects.entities.HandleArray;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+/**
+ * The {@code FlagProcessor} enacts the flags of every {@link Flaggable} in a single pass. The flags of an entity are
+ * a bitmask in the {@link EntityStore}, so setting and clearing one is a single operation on an int, and enacting
+ * them is a walk over the set bits. Each set bit is looked up in the {@code FlagTable} of the entity's class, which
+ * holds what every flag does to an entity of that class and masks off the bits it cannot act on, so no entity is
+ * checked for what it can do once its class has been seen.
+ * <p>
+ * Like the views of the {@link com.github.moribund.objects.entities.World}, the table of a class is worked out the
+ * first time an entity of that class is processed, which is the tick it is added, and reused for every entity of the
+ * same class after it. Flags are only processed by the simulation, so the tables are not guarded.
+ */
+@UtilityClass
+public class FlagProcessor {
+
+    /**
+     * The number of bits in {@link Flag}.
+     */
+    private final int FLAG_BITS = 8;
+
+    /**
+     * What each flag does, and to which type of entity, by the index of its bit.
+     */
+    private final FlagBehaviour[] BEHAVIOURS = defineBehaviours();
+
+    /**
+     * The table of each class of entity that has been processed.
+     */
+    private final Reference2ObjectMap<Class<?>, FlagTable> TABLES = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * Enacts the flags of every {@link Flaggable}, then lets each one {@link Flaggable#processFlags() process} what
+     * follows from its flags, in the order the {@link HandleArray} iterates them.
+     * @param flaggables The flaggables to process.
+     * @param store The store that holds their flags.
+     */
+    public void processAll(HandleArray<? extends Flaggable> flaggables, EntityStore store) {
+        for (int i = flaggables.size() - 1; i >= 0; i--) {
+            val flaggable = flaggables.get(i);
+            process(flaggable, store.getFlags(flaggable.getSlot()));
+            flaggable.processFlags();
+        }
+    }
+
+    /**
+     * Enacts a set of flags on a {@link Flaggable}, skipping the ones it is unable to act on.
+     * @param flaggable The flaggable to enact the flags on.
+     * @param flags The bits of the flags.
+     */
+    public void process(Flaggable flaggable, int flags) {
+        if (flags == 0) {
+            return;
+        }
+        val table = getTable(flaggable.getClass());
+        flags &= table.mask;
+        while (flags != 0) {
+            val bit = Integer.numberOfTrailingZeros(flags);
+            flags &= flags - 1;
+            table.actions[bit].enact(flaggable);
+        }
+    }
+
+    /**
+     * Gets the table of a class of entity, working it out should no entity of the class have been processed before.
+     * @param entityClass The class of the entity.
+     * @return The table of the class.
+     */
+    private FlagTable getTable(Class<?> entityClass) {
+        FlagTable table = TABLES.get(entityClass);
+        if (table == null) {
+            table = new FlagTable(entityClass);
+            TABLES.put(entityClass, table);
+        }
+        return table;
+    }
+
+    /**
+     * Defines what every flag does.
+     * @return The behaviour of each flag, by the index of its bit.
+     */
+    private FlagBehaviour[] defineBehaviours() {
+        val behaviours = new FlagBehaviour[FLAG_BITS];
+        define(behaviours, Flag.MOVE_FORWARD, FluidMovable.class, entity -> ((FluidMovable) entity).moveForward());
+        define(behaviours, Flag.MOVE_BACKWARD, FluidMovable.class, entity -> ((FluidMovable) entity).moveBack());
+        define(behaviours, Flag.ROTATE_LEFT, FluidMovable.class, entity -> ((FluidMovable) entity).rotateLeft());
+        define(behaviours, Flag.ROTATE_RIGHT, FluidMovable.class, entity -> ((FluidMovable) entity).rotateRight());
+        define(behaviours, Flag.MOVE_UP, RestrictedMovable.class, entity -> ((RestrictedMovable) entity).moveUp());
+        define(behaviours, Flag.MOVE_DOWN, RestrictedMovable.class, entity -> ((RestrictedMovable) entity).moveDown());
+        define(behaviours, Flag.MOVE_LEFT, RestrictedMovable.class, entity -> ((RestrictedMovable) entity).moveLeft());
+        define(behaviours, Flag.MOVE_RIGHT, RestrictedMovable.class,
+                entity -> ((RestrictedMovable) entity).moveRight());
+        return behaviours;
+    }
+
+    private void define(FlagBehaviour[] behaviours, int flag, Class<?> actor, FlagAction action) {
+        behaviours[Integer.numberOfTrailingZeros(flag)] = new FlagBehaviour(actor, action);
+    }
+
+    /**
+     * What a flag does to an entity.
+     */
+    private interface FlagAction {
+        /**
+         * Enacts the flag.
+         * @param flaggable The entity, which is known to be able to act on the flag.
+         */
+        void enact(Flaggable flaggable);
+    }
+
+    /**
+     * What a flag does, and the type of entity that can act on it.
+     */
+    private static final class FlagBehaviour {
+        private final Class<?> actor;
+        private final FlagAction action;
+
+        private FlagBehaviour(Class<?> actor, FlagAction action) {
+            this.actor = actor;
+            this.action = action;
+        }
+    }
+
+    /**
+     * What every flag does to an entity of a class.
+     */
+    private static final class FlagTable {
+
+        /**
+         * The bits of the flags the class can act on.
+         */
+        private final int mask;
+
+        /**
+         * The action of each flag, by the index of its bit, or null should the class not be able to act on it.
+         */
+        private final FlagAction[] actions = new FlagAction[FLAG_BITS];
+
+        private FlagTable(Class<?> entityClass) {
+            int mask = 0;
+            for (int bit = 0; bit < FLAG_BITS; bit++) {
+                val behaviour = BEHAVIOURS[bit];
+                if (behaviour != null && behaviour.actor.isAssignableFrom(entityClass)) {
+                    actions[bit] = behaviour.action;
+                    mask |= 1 << bit;
+                }
+            }
+            this.mask = mask;
+        }
+    }
+}
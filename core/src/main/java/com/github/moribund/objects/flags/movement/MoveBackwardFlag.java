@@ -1,18 +1,20 @@
 package com.github.moribund.objects.flags.movement;
 
 import com.github.moribund.objects.attributes.Flaggable;
-import com.github.moribund.objects.attributes.FluidMovable;
 import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.flags.FlagProcessor;
 
 /**
- * The {@link com.github.moribund.objects.flags.Flag} that signifies that a {@link FluidMovable} is moving back.
+ * The {@link com.github.moribund.objects.flags.Flag} that signifies that a {@link com.github.moribund.objects.attributes.FluidMovable} is moving back.
  */
 public class MoveBackwardFlag implements Flag {
+    @Override
+    public int getMask() {
+        return MOVE_BACKWARD;
+    }
+
     @Override
     public void processFlag(Flaggable flaggable) {
-        if (flaggable instanceof FluidMovable) {
-            FluidMovable movable = (FluidMovable) flaggable;
-            movable.moveBack();
-        }
+        FlagProcessor.process(flaggable, MOVE_BACKWARD);
     }
 }
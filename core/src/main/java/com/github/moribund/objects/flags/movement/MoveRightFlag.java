@@ -1,18 +1,20 @@
 package com.github.moribund.objects.flags.movement;
 
 import com.github.moribund.objects.attributes.Flaggable;
-import com.github.moribund.objects.attributes.RestrictedMovable;
 import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.flags.FlagProcessor;
 
 /**
- * The {@link com.github.moribund.objects.flags.Flag} that signifies that a {@link RestrictedMovable} is moving rightwards.
+ * The {@link com.github.moribund.objects.flags.Flag} that signifies that a {@link com.github.moribund.objects.attributes.RestrictedMovable} is moving rightwards.
  */
 public class MoveRightFlag implements Flag {
+    @Override
+    public int getMask() {
+        return MOVE_RIGHT;
+    }
+
     @Override
     public void processFlag(Flaggable flaggable) {
-        if (flaggable instanceof RestrictedMovable) {
-            RestrictedMovable movable = (RestrictedMovable) flaggable;
-            movable.moveRight();
-        }
+        FlagProcessor.process(flaggable, MOVE_RIGHT);
     }
 }
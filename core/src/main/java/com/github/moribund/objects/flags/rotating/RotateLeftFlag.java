@@ -1,19 +1,20 @@
 package com.github.moribund.objects.flags.rotating;
 
 import com.github.moribund.objects.attributes.Flaggable;
-import com.github.moribund.objects.attributes.FluidMovable;
-import com.github.moribund.objects.attributes.Movable;
 import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.flags.FlagProcessor;
 
 /**
- * The {@link com.github.moribund.objects.flags.Flag} that signifies that a {@link Movable} is rotating leftwards.
+ * The {@link com.github.moribund.objects.flags.Flag} that signifies that a {@link com.github.moribund.objects.attributes.Movable} is rotating leftwards.
  */
 public class RotateLeftFlag implements Flag {
+    @Override
+    public int getMask() {
+        return ROTATE_LEFT;
+    }
+
     @Override
     public void processFlag(Flaggable flaggable) {
-        if (flaggable instanceof FluidMovable) {
-            FluidMovable movable = (FluidMovable) flaggable;
-            movable.rotateLeft();
-        }
+        FlagProcessor.process(flaggable, ROTATE_LEFT);
     }
 }
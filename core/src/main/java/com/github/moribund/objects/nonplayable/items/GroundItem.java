@@ -6,57 +6,110 @@ import com.badlogic.gdx.math.Rectangle;
 import com.github.moribund.MoribundClient;
 import com.github.moribund.graphics.drawables.DrawableGameAsset;
 import com.github.moribund.objects.attributes.Locatable;
+import com.github.moribund.objects.attributes.Stored;
+import com.github.moribund.objects.entities.EntityStore;
 import lombok.Getter;
+import lombok.val;
 
 /**
  * An {@code GroundItem} that can be rendered onto the ground.
  */
-public final class GroundItem implements Locatable, DrawableGameAsset {
+public final class GroundItem implements Locatable, Stored, DrawableGameAsset {
 
     /**
      * The {@link Sprite} of the ground item.
      */
     private final Sprite sprite;
 
+    /**
+     * The unique ID the server has given the ground item, by which it is picked up.
+     */
+    @Getter
+    private final int id;
+
+    /**
+     * The bounds of the ground item, which never change as ground items do not move.
+     */
+    @Getter
+    private final Rectangle bounds;
+
     /**
      * The {@link ItemType} of the item on the ground.
      */
     @Getter
     private final ItemType itemType;
 
+    /**
+     * The store that holds the position of the ground item for culling.
+     */
+    private final EntityStore store;
+
+    /**
+     * The slot of the ground item in the {@link GroundItem#store}.
+     */
+    @Getter
+    private final int slot;
+
+    /**
+     * The handle of the ground item in the {@link GroundItem#store}.
+     */
+    @Getter
+    private final int handle;
+
     /**
      * Creates a ground item.
+     * @param id The unique ID the server has given the ground item.
      * @param itemType The {@link ItemType} on the ground, also used to make the sprite.
      * @param x The x-coordinate of the item on the ground.
      * @param y The y-coordinate of the item on the ground.
      */
-    public GroundItem(ItemType itemType, float x, float y) {
+    public GroundItem(int id, ItemType itemType, float x, float y) {
+        this.id = id;
         sprite = new Sprite(itemType.getSprite());
         this.itemType = itemType;
         sprite.setX(x);
         sprite.setY(y);
+        bounds = new Rectangle(sprite.getBoundingRectangle());
+        store = MoribundClient.getInstance().getEntityStore();
+        slot = store.allocate();
+        handle = store.getHandle(slot);
+        store.setTransform(slot, x, y, 0);
     }
 
     /**
      * A static helper method to help add items to the ground without having to go through the hassle
-     * of adding the ground item to the respective sets for visualization.
+     * of adding the ground item to the {@link MoribundClient#world} and to the indexes used to find it.
      * @param groundItem The ground item to help add to the game.
-     * @see com.github.moribund.graphics.drawables.DrawableGameAsset
-     * @see MoribundClient#groundItems
+     * @see MoribundClient#world
      */
     public static void addGroundItem(GroundItem groundItem) {
-        MoribundClient.getInstance().getGroundItems().add(groundItem);
-        MoribundClient.getInstance().getDrawableGameAssets().add(groundItem);
+        val client = MoribundClient.getInstance();
+        client.getWorld().add(groundItem);
+        client.getGroundItemsById().put(groundItem.id, groundItem);
+        client.getGroundItemGrid().update(groundItem, groundItem.bounds);
+    }
+
+    /**
+     * A static helper method to remove items from the ground, reversing {@link GroundItem#addGroundItem(GroundItem)}
+     * and freeing the ground item's slot in the {@link EntityStore}.
+     * @param groundItem The ground item to remove from the game.
+     */
+    public static void removeGroundItem(GroundItem groundItem) {
+        val client = MoribundClient.getInstance();
+        client.getWorld().remove(groundItem);
+        client.getGroundItemsById().remove(groundItem.id);
+        client.getGroundItemGrid().remove(groundItem);
+        groundItem.store.free(groundItem.slot);
     }
 
     @Override
     public float getX() {
-        return sprite.getX();
+        return store.getX(slot);
     }
 
     @Override
     public float getY() {
-        return sprite.getY();
+        return store.getY(slot);
     }
 
     @Override
@@ -70,18 +123,13 @@ public final class GroundItem implements Locatable, DrawableGameAsset {
      * @return if the entity is touching the ground item.
      */
     public boolean isTouching(Rectangle rectangle) {
-        return sprite.getBoundingRectangle().overlaps(rectangle);
+        return bounds.overlaps(rectangle);
     }
 
     @Override
-    public void draw(Batch batch) {
-        sprite.draw(batch);
-    }
-
-    /**
-     * Checks to see if given data matches a {@link GroundItem}.
-     */
-    public boolean matches(int itemId, float x, float y) {
-        return itemType.getId() == itemId && getX() == x && getY() == y;
+    public void draw(Batch batch, int slot) {
+        if (store.getRenderState().isVisible(slot)) {
+            sprite.draw(batch);
+        }
     }
 }
@@ -2,13 +2,22 @@ package com.github.moribund.objects.nonplayable.items;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import lombok.Getter;
 import lombok.val;
 
 /**
- * The {@code Item} in the inventory or equipment.
+ * The {@code Item} in the inventory or equipment. An item holds nothing but its {@link ItemType}, so there is a
+ * single one of each type, got with {@link Item#of(ItemType)}, which every slot of every container holding that type
+ * shares. It draws the region of its type's {@link Sprite} at whatever position it is given, so the same item is
+ * drawn into every slot without being copied or moved.
  */
-public class Item {
+public final class Item {
+
+    /**
+     * The item of each {@link ItemType}, indexed by the ordinal of the type.
+     */
+    private static final Item[] FLYWEIGHTS = makeFlyweights();
 
     /**
      * The respective {@link ItemType} of the item.
@@ -16,23 +25,54 @@ public class Item {
     @Getter
     private final ItemType itemType;
 
-    public Item(ItemType itemType) {
+    /**
+     * The region of the texture that the icon of the item is drawn from.
+     */
+    private final TextureRegion icon;
+
+    /**
+     * The width the icon is drawn at.
+     */
+    private final float iconWidth;
+
+    /**
+     * The height the icon is drawn at.
+     */
+    private final float iconHeight;
+
+    private Item(ItemType itemType) {
         this.itemType = itemType;
+        val sprite = itemType.getSprite();
+        icon = new TextureRegion(sprite);
+        iconWidth = sprite.getWidth();
+        iconHeight = sprite.getHeight();
+    }
+
+    /**
+     * Gets the item of an {@link ItemType}.
+     * @param itemType The item type.
+     * @return The item shared by every slot holding the type, or null should the type be null.
+     */
+    public static Item of(ItemType itemType) {
+        return itemType == null ? null : FLYWEIGHTS[itemType.ordinal()];
+    }
+
+    private static Item[] makeFlyweights() {
+        val itemTypes = ItemType.values();
+        val flyweights = new Item[itemTypes.length];
+        for (int i = 0; i < itemTypes.length; i++) {
+            flyweights[i] = new Item(itemTypes[i]);
+        }
+        return flyweights;
     }
 
     /**
-     * Draws an item onto the screen.
-     * @param slot The slot ID of the item.
-     * @param startingX The starting X coordinate to start drawing the item from, using the slot to readjust.
+     * Draws the icon of the item onto the screen.
      * @param batch The batch to draw the item to.
+     * @param x The x-coordinate of the bottom left of the icon.
+     * @param y The y-coordinate of the bottom left of the icon.
      */
-    public void draw(int slot, float startingX, Batch batch) {
-        val sprite = new Sprite(itemType.getSprite());
-        val incrementation = 95;
-        val x = startingX + (incrementation * slot) + 20 - 175;
-        val y = 20f;
-        sprite.setX(x);
-        sprite.setY(y);
-        sprite.draw(batch);
+    public void draw(Batch batch, float x, float y) {
+        batch.draw(icon, x, y, iconWidth, iconHeight);
     }
 }
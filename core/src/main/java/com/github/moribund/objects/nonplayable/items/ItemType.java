@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.github.moribund.graphics.sprites.SpriteContainer;
 import com.github.moribund.graphics.sprites.SpriteFile;
 import lombok.Getter;
+import lombok.val;
 
 /**
  * The item types of an item which contains its IDs and {@link Sprite}s.
@@ -19,9 +20,9 @@ public enum ItemType {
     ARROW(7, SpriteContainer.getInstance().getSprite(SpriteFile.ARROW_ITEM));
 
     /**
-     * TODO convert this to a HashMap.
+     * Every item type, indexed by its ID, so that looking one up does not scan them all.
      */
-    private static final ItemType[] VALUES = values();
+    private static final ItemType[] BY_ID = indexById();
     @Getter
     private final int id;
     @Getter
@@ -35,14 +36,21 @@ public enum ItemType {
     /**
      * Gets the {@code ItemType} given an {@code id}.
      * @param id The item ID of the item type.
-     * @return The {@code ItemType}.
+     * @return The {@code ItemType}, or null should there be none of the ID.
      */
     public static ItemType getItemType(int id) {
-        for (ItemType itemType : VALUES) {
-            if (itemType.id == id) {
-                return itemType;
-            }
+        return id >= 0 && id < BY_ID.length ? BY_ID[id] : null;
+    }
+
+    private static ItemType[] indexById() {
+        int largestId = -1;
+        for (ItemType itemType : values()) {
+            largestId = Math.max(largestId, itemType.id);
+        }
+        val byId = new ItemType[largestId + 1];
+        for (ItemType itemType : values()) {
+            byId[itemType.id] = itemType;
         }
-        return null;
+        return byId;
     }
 }
@@ -2,36 +2,44 @@ package com.github.moribund.objects.nonplayable.projectile;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.math.Intersector;
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.utils.Pool;
 import com.github.moribund.MoribundClient;
 import com.github.moribund.graphics.drawables.DrawableGameAsset;
 import com.github.moribund.objects.attributes.Collidable;
 import com.github.moribund.objects.attributes.Flaggable;
 import com.github.moribund.objects.attributes.FluidMovable;
-import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.attributes.Stored;
+import com.github.moribund.objects.collision.Hitbox;
+import com.github.moribund.objects.collision.NarrowPhase;
+import com.github.moribund.objects.entities.EntityStore;
 import com.github.moribund.objects.flags.FlagConstants;
 import com.github.moribund.objects.playable.players.PlayableCharacter;
+import com.github.moribund.simulation.Simulation;
+import com.github.moribund.simulation.TimerWheel;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectArraySet;
+import it.unimi.dsi.fastutil.objects.ObjectList;
 import it.unimi.dsi.fastutil.objects.ObjectSet;
 import lombok.Getter;
 import lombok.val;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-
 /**
  * A {@code Projectile} is not a singular {@link com.badlogic.gdx.graphics.g2d.Sprite},
  * rather it is any {@link com.badlogic.gdx.graphics.g2d.Sprite} that is moving
  * and visible in the screen that is not attached to a {@link com.badlogic.gdx.InputProcessor}.
  */
-public class Projectile implements FluidMovable, DrawableGameAsset, Flaggable {
+public class Projectile implements FluidMovable, DrawableGameAsset, Flaggable, Stored, Pool.Poolable {
+
+    /**
+     * The {@link Collidable}s found by the broad-phase of the projectile currently checking for collisions. This
+     * is shared by all projectiles, as they check for collisions one at a time, to avoid allocating per check.
+     */
+    private static final ObjectList<Collidable> COLLISION_CANDIDATES = new ObjectArrayList<>();
 
     /**
-     * The list of {@link Flag} for its {@link Flaggable} attribute.
+     * How long, in ticks, a projectile stays in the world before it is removed.
      */
-    private final ObjectSet<Flag> flags;
+    private static final int LIFETIME = 3 * MoribundClient.TICKS_PER_SECOND;
 
     /**
      * The list of {@link DrawableGameAsset} that don't count as "collisions" should they collide.
@@ -39,7 +47,29 @@ public class Projectile implements FluidMovable, DrawableGameAsset, Flaggable {
     private final ObjectSet<DrawableGameAsset> ignores;
 
     /**
-     * The sprite of the {@code Projectile}.
+     * The store that holds the position, rotation, and velocity of the {@code Projectile}.
+     */
+    private final EntityStore store;
+
+    /**
+     * The slot of the {@code Projectile} in the {@link Projectile#store}. A new slot is given out every time the
+     * projectile is obtained from its {@link ProjectilePool}.
+     */
+    @Getter
+    private int slot = -1;
+
+    /**
+     * The handle of the {@code Projectile} in the {@link Projectile#store}, which changes along with the
+     * {@link Projectile#slot}.
+     */
+    @Getter
+    private int handle = EntityStore.NO_HANDLE;
+
+    /**
+     * The sprite of the {@code Projectile}. Its position is only brought up to date with the
+     * {@link Projectile#store} when it is drawn. It is copied from the {@link ProjectileType#sprite} once, when the
+     * projectile is first made, and from then on is only touched by the render thread, which may still be drawing
+     * the projectile from a tick before it was reused, so it is not reset when the projectile is reused.
      */
     @Getter
     private final Sprite sprite;
@@ -54,73 +84,131 @@ public class Projectile implements FluidMovable, DrawableGameAsset, Flaggable {
      * The {@link PlayableCharacter} that is the cause of this projectile.
      */
     @Getter
-    private final PlayableCharacter source;
+    private PlayableCharacter source;
 
     /**
      * The speed at which the {@code Projectile} can rotate left or right.
      */
-    private final float rotationSpeed;
+    private float rotationSpeed;
 
     /**
      * The speed at which the {@code Projectile} can move forward or back.
      */
-    private final float movementSpeed;
+    private float movementSpeed;
 
     /**
-     * The time the projectile was released.
+     * The timer that removes the projectile once its {@link Projectile#LIFETIME} is up. It is made once and
+     * scheduled again every time the projectile is launched.
      */
-    private final LocalDateTime timeReleased;
+    private final TimerWheel.Timer expiry;
 
     /**
-     * The polygon generated by the {@link ProjectileType#spriteVertices}.
+     * If the projectile is out of its {@link ProjectilePool}. This keeps a projectile that is removed twice in the
+     * same frame, such as by a collision and then by its time running out, from being freed twice.
      */
-    private final Polygon polygon;
+    private boolean active;
 
     /**
-     * Creates a new {@code Projectile} with a multitude of initial settings. It is important to note that in this
-     * constructor, a {@code Projectile} is automatically marked with the {@link FlagConstants#MOVE_FORWARD_FLAG}
-     * flag.
+     * The hitbox generated by the {@link ProjectileType#spriteVertices}.
      */
-    Projectile(ProjectileType projectileType, PlayableCharacter source, float startingX, float startingY, float startingAngle, float rotationSpeed, float movementSpeed, ObjectSet<DrawableGameAsset> ignores) {
-        this.sprite = new Sprite(projectileType.getSprite());
-        this.polygon = new Polygon(projectileType.getSpriteVertices().getVertices());
+    private final Hitbox hitbox;
+
+    /**
+     * The x-coordinate of the projectile when it last checked for collisions. Collisions are tested along the whole
+     * path from here to the current position so that a fast projectile cannot pass through a player between checks.
+     */
+    private float lastCheckedX;
+
+    /**
+     * The y-coordinate of the projectile when it last checked for collisions.
+     */
+    private float lastCheckedY;
+
+    /**
+     * Creates a new {@code Projectile} of a {@link ProjectileType}, which is only done by its {@link ProjectilePool}
+     * when it has no free projectiles to give out. The projectile is not in the world until it is
+     * {@link Projectile#launch}ed.
+     * @param projectileType The {@link ProjectileType} of the projectile.
+     */
+    Projectile(ProjectileType projectileType) {
         this.projectileType = projectileType;
+        this.sprite = new Sprite(projectileType.getSprite());
+        this.hitbox = new Hitbox(projectileType.getSpriteVertices().getShape(), sprite.getOriginX(), sprite.getOriginY());
+        this.ignores = new ObjectArraySet<>();
+        this.expiry = new TimerWheel.Timer(this::removeProjectile);
+        store = MoribundClient.getInstance().getEntityStore();
+    }
+
+    /**
+     * Sets up a projectile that has just been obtained from its {@link ProjectilePool} with a multitude of initial
+     * settings. It is important to note that here, a {@code Projectile} is automatically marked with the
+     * {@link FlagConstants#MOVE_FORWARD_FLAG} flag.
+     */
+    void launch(PlayableCharacter source, float startingX, float startingY, float startingAngle, float rotationSpeed, float movementSpeed, ObjectSet<DrawableGameAsset> ignores) {
         this.source = source;
         this.rotationSpeed = rotationSpeed;
         this.movementSpeed = movementSpeed;
-        this.ignores = new ObjectArraySet<>(ignores);
-        flags = new ObjectArraySet<>();
-        flags.add(FlagConstants.MOVE_FORWARD_FLAG);
-        sprite.setX(startingX);
-        sprite.setY(startingY);
-        sprite.setRotation(startingAngle);
-        polygon.setPosition(startingX, startingY);
-        polygon.setRotation(startingAngle);
-        polygon.setOrigin(sprite.getOriginX(), sprite.getOriginY());
-        timeReleased = LocalDateTime.now();
+        if (ignores != null) {
+            this.ignores.addAll(ignores);
+        }
+        slot = store.allocate();
+        handle = store.getHandle(slot);
+        store.setFlags(slot, FlagConstants.MOVE_FORWARD_FLAG.getMask());
+        store.setTransform(slot, startingX, startingY, startingAngle);
+        store.setVelocityFromRotation(slot, movementSpeed);
+        lastCheckedX = startingX;
+        lastCheckedY = startingY;
+        active = true;
+    }
+
+    /**
+     * Clears the projectile as it goes back into its {@link ProjectilePool}, freeing its slot in the
+     * {@link EntityStore}. The sprite, hitbox, and sets are kept to be reused.
+     */
+    @Override
+    public void reset() {
+        store.free(slot);
+        slot = -1;
+        handle = EntityStore.NO_HANDLE;
+        source = null;
+        ignores.clear();
+        active = false;
     }
 
     /**
      * A helper method made for launching projectiles. Rather than making the person who wishes to launch a projectile
-     * go through the hassle of adding the projectile to the list of {@link Flaggable} and {@link DrawableGameAsset} objects,
+     * go through the hassle of adding the projectile to the {@link MoribundClient#world} and starting its time,
      * this helper method takes the projectile and does it for them.
      * @param projectile The respective {@code Projectile} that is about to be launched.
-     * @see MoribundClient#flaggables
-     * @see MoribundClient#drawableGameAssets
+     * @see MoribundClient#world
      */
     public static void launchProjectile(Projectile projectile) {
-        MoribundClient.getInstance().getFlaggables().add(projectile);
-        MoribundClient.getInstance().getDrawableGameAssets().add(projectile);
+        // the projectile may have been placed since it was made, so it should not sweep from where it was made
+        projectile.lastCheckedX = projectile.getX();
+        projectile.lastCheckedY = projectile.getY();
+        val client = MoribundClient.getInstance();
+        client.getWorld().add(projectile);
+        Simulation.getInstance().getTimers().schedule(projectile.expiry, LIFETIME);
     }
 
     /**
-     * Removes a given projectile.
-     * @see MoribundClient#flaggables
-     * @see MoribundClient#drawableGameAssets
+     * Removes a given projectile and gives it back to its {@link ProjectilePool}, which frees its slot in the
+     * {@link EntityStore}. Both are recorded into the {@link MoribundClient#entityCommands} and happen when it is
+     * next flushed, until which the projectile does nothing. Removing a projectile that has already been removed
+     * does nothing.
+     * @see MoribundClient#world
      */
     public void removeProjectile() {
-        MoribundClient.getInstance().getFlaggables().remove(this);
-        MoribundClient.getInstance().getDrawableGameAssets().remove(this);
+        if (!active) {
+            return;
+        }
+        active = false;
+        Simulation.getInstance().getTimers().cancel(expiry);
+        // the slot is only freed at the next flush, and must not move until then
+        store.clearFlags(slot, FlagConstants.MOVE_FORWARD_FLAG.getMask());
+        val client = MoribundClient.getInstance();
+        client.getWorld().remove(this);
+        client.getEntityCommands().release(projectileType.getPool(), this);
     }
 
     /**
@@ -131,111 +219,109 @@ public class Projectile implements FluidMovable, DrawableGameAsset, Flaggable {
         return new ProjectileBuilder();
     }
 
-    @Override
-    public void draw(Batch batch) {
-        sprite.draw(batch);
-        checkRemoval();
-    }
-
     /**
-     * Calls the needed checks to check if a projectile should be removed.
+     * Draws the projectile, between where it was on the previous tick and where it is now, should it not be culled.
+     * A projectile that is published is always active, as removed projectiles are flushed out of the world first, so
+     * only the slot it was published with is needed here.
      */
-    private void checkRemoval() {
-        checkCollision();
-        checkTimeExceeded();
+    @Override
+    public void draw(Batch batch, int slot) {
+        val renderState = store.getRenderState();
+        if (renderState.isVisible(slot)) {
+            renderState.syncSprite(slot, sprite);
+            sprite.draw(batch);
+        }
     }
 
     /**
-     * Checks to see if the projectile has been on the screen too long and removes it.
+     * Checks to see if a projectile is colliding with a {@link Collidable}. Only the {@link Collidable}s that share
+     * a cell of the {@link MoribundClient#getCollisionGrid()} with the area the projectile's bounding circle has
+     * swept since the last check are tested, and those are handed to the {@link NarrowPhase}. The projectile is swept
+     * at its current rotation, as it turns far less in a single step than it moves.
      */
-    private void checkTimeExceeded() {
-        val timeTillRemoval = 3;
-        val timeTillRemoveUnits = ChronoUnit.SECONDS;
-        if (timeTillRemoveUnits.between(timeReleased, LocalDateTime.now()) >= timeTillRemoval) {
-            removeProjectile();
+    private void checkCollision() {
+        val x = getX();
+        val y = getY();
+        val motionX = x - lastCheckedX;
+        val motionY = y - lastCheckedY;
+        lastCheckedX = x;
+        lastCheckedY = y;
+        hitbox.sync(store, slot);
+        COLLISION_CANDIDATES.clear();
+        MoribundClient.getInstance().getCollisionGrid().query(hitbox, motionX, motionY, COLLISION_CANDIDATES);
+        // a collision can remove the projectile, after which it must not collide with anything else
+        for (int i = 0; i < COLLISION_CANDIDATES.size() && active; i++) {
+            val collidable = COLLISION_CANDIDATES.get(i);
+            if (!ignores.contains(collidable) && NarrowPhase.sweeps(hitbox, motionX, motionY, collidable.getHitbox())) {
+                collidable.collide(this);
+            }
         }
     }
 
     /**
-     * Checks to see if a projectile is colliding with a {@link Collidable}.
+     * Checks if the projectile has hit anything, once it has been moved by its flags. This runs once per tick, and
+     * is done even when the projectile is culled, as it can still hit players that are off the screen. Running out of
+     * time is left to the {@link Projectile#expiry} timer.
      */
-    private void checkCollision() {
-        MoribundClient.getInstance().getDrawableGameAssets().stream()
-                .filter(drawable -> drawable instanceof Collidable)
-                .filter(drawable -> !ignores.contains(drawable))
-                .forEach(drawable -> {
-                    Collidable collidable = (Collidable) drawable;
-                    if (Intersector.overlapConvexPolygons(polygon, collidable.getPolygon())) {
-                        collidable.collide(this);
-                    }
-                });
-    }
-
     @Override
     public void processFlags() {
-        flags.forEach(flag -> flag.processFlag(this));
+        if (!active) {
+            return;
+        }
+        checkCollision();
     }
 
     @Override
     public float getX() {
-        return sprite.getX();
+        return store.getX(slot);
     }
 
     @Override
     public float getY() {
-        return sprite.getY();
+        return store.getY(slot);
     }
 
     @Override
     public void setX(float x) {
-        sprite.setX(x);
-        polygon.setPosition(x, getY());
+        store.setX(slot, x);
     }
 
     @Override
     public void setY(float y) {
-        sprite.setY(y);
-        polygon.setPosition(getX(), y);
+        store.setY(slot, y);
     }
 
+    /**
+     * Sets the rotational angle of the projectile, turning its velocity to match.
+     */
     @Override
     public void setRotation(float angle) {
-        sprite.setRotation(angle);
-        polygon.setRotation(angle);
+        store.setRotation(slot, angle);
+        store.setVelocityFromRotation(slot, movementSpeed);
     }
 
     @Override
     public float getRotation() {
-        return sprite.getRotation();
+        return store.getRotation(slot);
     }
 
     @Override
     public void rotateLeft() {
-        sprite.rotate(-rotationSpeed);
+        setRotation(getRotation() - rotationSpeed);
     }
 
     @Override
     public void rotateRight() {
-        sprite.rotate(rotationSpeed);
+        setRotation(getRotation() + rotationSpeed);
     }
 
     @Override
     public void moveForward() {
-        val angle = sprite.getRotation();
-        val xVelocity = movementSpeed * MathUtils.cosDeg(angle);
-        val yVelocity = movementSpeed * MathUtils.sinDeg(angle);
-
-        sprite.translate(xVelocity, yVelocity);
-        polygon.translate(xVelocity, yVelocity);
+        store.advance(slot, false);
     }
 
     @Override
     public void moveBack() {
-        val angle = sprite.getRotation();
-        val xVelocity = -movementSpeed * MathUtils.cosDeg(angle);
-        val yVelocity = -movementSpeed * MathUtils.sinDeg(angle);
-
-        sprite.translate(xVelocity, yVelocity);
-        polygon.translate(xVelocity, yVelocity);
+        store.advance(slot, true);
     }
 }
@@ -4,6 +4,7 @@ import com.github.moribund.graphics.drawables.DrawableGameAsset;
 import com.github.moribund.objects.playable.players.PlayableCharacter;
 import it.unimi.dsi.fastutil.objects.ObjectArraySet;
 import it.unimi.dsi.fastutil.objects.ObjectSet;
+import lombok.val;
 
 import java.io.InvalidObjectException;
 
@@ -98,8 +99,9 @@ public final class ProjectileBuilder {
     }
 
     /**
-     * Creates the {@link Projectile} with the given configurations above.
-     * @return The newly created {@link Projectile}. Returns null if the {@link Projectile} created encounters an
+     * Obtains a {@link Projectile} from the {@link ProjectilePool} of its {@link ProjectileType} and sets it up with
+     * the given configurations above.
+     * @return The newly obtained {@link Projectile}. Returns null if the {@link Projectile} created encounters an
      *         {@link InvalidObjectException}.
      */
     public Projectile create() {
@@ -110,7 +112,9 @@ public final class ProjectileBuilder {
             if (movingSpeed == -1) {
                 throw new InvalidObjectException("Unable to make a Projectile with no moving speed");
             }
-            return new Projectile(projectileType, source, x, y, angle, rotationSpeed, movingSpeed, ignores);
+            val projectile = projectileType.getPool().obtain();
+            projectile.launch(source, x, y, angle, rotationSpeed, movingSpeed, ignores);
+            return projectile;
         } catch (InvalidObjectException e) {
             e.printStackTrace();
         }
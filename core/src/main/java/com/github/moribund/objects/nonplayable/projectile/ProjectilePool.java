@@ -0,0 +1,104 @@
+package com.github.moribund.objects.nonplayable.projectile;
+
+import com.badlogic.gdx.utils.Pool;
+import lombok.Getter;
+import lombok.extern.java.Log;
+import lombok.val;
+
+/**
+ * The {@code ProjectilePool} keeps the {@link Projectile}s of a single {@link ProjectileType} that have left the
+ * world so that they can be launched again, rather than making a new {@link Projectile}, {@link
+ * com.badlogic.gdx.graphics.g2d.Sprite}, and {@link com.github.moribund.objects.collision.Hitbox} for every launch.
+ * It keeps track of how well it is doing so that its size can be tuned, which is logged at the end of every match.
+ */
+@Log
+public final class ProjectilePool extends Pool<Projectile> {
+
+    /**
+     * The amount of projectiles the pool keeps before it lets freed ones go to the garbage collector.
+     */
+    private static final int MAX_FREE = 256;
+
+    /**
+     * The {@link ProjectileType} of the projectiles in this pool.
+     */
+    private final ProjectileType projectileType;
+
+    /**
+     * The amount of projectiles obtained from the pool.
+     */
+    @Getter
+    private long obtained;
+
+    /**
+     * The amount of times the pool had no free projectile and had to make a new one.
+     */
+    @Getter
+    private long misses;
+
+    /**
+     * The amount of projectiles currently obtained and not yet freed.
+     */
+    @Getter
+    private int inUse;
+
+    /**
+     * The most projectiles that have ever been in use at once.
+     */
+    @Getter
+    private int highWaterMark;
+
+    ProjectilePool(ProjectileType projectileType) {
+        super(16, MAX_FREE);
+        this.projectileType = projectileType;
+    }
+
+    @Override
+    protected Projectile newObject() {
+        misses++;
+        return new Projectile(projectileType);
+    }
+
+    @Override
+    public Projectile obtain() {
+        obtained++;
+        inUse++;
+        highWaterMark = Math.max(highWaterMark, inUse);
+        return super.obtain();
+    }
+
+    @Override
+    public void free(Projectile projectile) {
+        inUse--;
+        super.free(projectile);
+    }
+
+    /**
+     * Gets the share of obtains that had to make a new projectile.
+     * @return The miss rate between 0 and 1.
+     */
+    public double getMissRate() {
+        return obtained == 0 ? 0 : misses / (double) obtained;
+    }
+
+    /**
+     * Logs how well the pool of every {@link ProjectileType} did over the match and starts counting anew, which is
+     * done at the end of every match. The projectiles still in use are carried over, and are the starting point of
+     * the next high-water mark.
+     */
+    public static void logReports() {
+        for (ProjectileType projectileType : ProjectileType.values()) {
+            val pool = projectileType.getPool();
+            log.info(pool.toString());
+            pool.obtained = 0;
+            pool.misses = 0;
+            pool.highWaterMark = pool.inUse;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s pool: %d obtained, %.1f%% missed, %d in use, %d at most, %d free",
+                projectileType, obtained, getMissRate() * 100, inUse, highWaterMark, getFree());
+    }
+}
@@ -23,6 +23,11 @@ public enum ProjectileType {
     private final Sprite sprite;
     @Getter
     private final SpriteVertices spriteVertices;
+    /**
+     * The pool that projectiles of this type are obtained from and given back to.
+     */
+    @Getter
+    private final ProjectilePool pool;
 
     static {
         VALUES = new Int2ObjectOpenHashMap<>();
@@ -35,6 +40,7 @@ public enum ProjectileType {
         this.id = id;
         this.sprite = sprite;
         this.spriteVertices = spriteVertices;
+        this.pool = new ProjectilePool(this);
     }
 
     public static ProjectileType getForId(int id) {
@@ -7,6 +7,7 @@ import com.github.moribund.graphics.drawables.DrawableGameAsset;
 import com.github.moribund.objects.attributes.Collidable;
 import com.github.moribund.objects.attributes.Flaggable;
 import com.github.moribund.objects.attributes.RestrictedMovable;
+import com.github.moribund.objects.attributes.Stored;
 import com.github.moribund.objects.nonplayable.projectile.ProjectileType;
 import com.github.moribund.objects.playable.players.containers.ItemContainer;
 import com.github.moribund.objects.playable.players.ui.Timer;
@@ -18,7 +19,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
  * playable characters are assumed as visible, movable, and
  * an input processor.
  */
-public interface PlayableCharacter extends Collidable, Flaggable, DrawableGameAsset, RestrictedMovable, InputProcessor {
+public interface PlayableCharacter extends Collidable, Flaggable, DrawableGameAsset, RestrictedMovable, Stored, InputProcessor {
 
     /**
      * Gets the player's unique ID generated by the connection.
@@ -123,10 +124,11 @@ public interface PlayableCharacter extends Collidable, Flaggable, DrawableGameAs
 
     /**
      * Faces the player at a given world space point.
-     * @param location The world space point to face.
+     * @param x The x-coordinate of the world space point to face.
+     * @param y The y-coordinate of the world space point to face.
      * @see com.badlogic.gdx.graphics.Camera#unproject(Vector3)
      */
-    void faceLocation(Vector3 location);
+    void faceLocation(float x, float y);
 
     void updateLocation();
 
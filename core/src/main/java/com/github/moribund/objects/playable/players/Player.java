@@ -5,13 +5,15 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.math.Polygon;
-import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.github.moribund.MoribundClient;
 import com.github.moribund.graphics.animations.Animation;
 import com.github.moribund.graphics.animations.AnimationContainer;
 import com.github.moribund.graphics.animations.SpriteAnimation;
 import com.github.moribund.graphics.fonts.FontFile;
+import com.github.moribund.graphics.hud.Hud;
+import com.github.moribund.graphics.hud.HudLayer;
 import com.github.moribund.graphics.sprites.SpriteContainer;
 import com.github.moribund.graphics.sprites.SpriteFile;
 import com.github.moribund.graphics.sprites.SpriteVertices;
@@ -24,21 +26,23 @@ import com.github.moribund.net.packets.items.DropItemPacket;
 import com.github.moribund.net.packets.items.PickupItemPacket;
 import com.github.moribund.net.packets.movement.LocationPacket;
 import com.github.moribund.net.packets.movement.RotationPacket;
+import com.github.moribund.objects.collision.Hitbox;
+import com.github.moribund.objects.entities.EntityStore;
 import com.github.moribund.objects.flags.Flag;
 import com.github.moribund.objects.flags.FlagConstants;
 import com.github.moribund.objects.nonplayable.items.EquippedItemType;
 import com.github.moribund.objects.nonplayable.items.GroundItem;
-import com.github.moribund.objects.nonplayable.items.Item;
 import com.github.moribund.objects.nonplayable.projectile.Projectile;
 import com.github.moribund.objects.nonplayable.projectile.ProjectileType;
 import com.github.moribund.objects.playable.players.containers.Equipment;
 import com.github.moribund.objects.playable.players.containers.Inventory;
 import com.github.moribund.objects.playable.players.ui.*;
+import com.github.moribund.simulation.Simulation;
 import com.github.moribund.utils.GLUtils;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectArraySet;
-import it.unimi.dsi.fastutil.objects.ObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.val;
@@ -51,6 +55,15 @@ public class Player implements PlayableCharacter {
 
     private static final int ROTATION_SPEED = 5;
     private static final int MOVEMENT_SPEED = 5;
+    /**
+     * The {@link GroundItem}s found by the grid while looking for one to pick up, shared to avoid allocating per
+     * key press.
+     */
+    private static final ObjectList<GroundItem> PICKUP_CANDIDATES = new ObjectArrayList<>();
+    /**
+     * The bounds of the player while looking for a ground item to pick up, shared for the same reason.
+     */
+    private static final Rectangle PICKUP_BOUNDS = new Rectangle();
 
     @Getter
     private final int gameId;
@@ -69,27 +82,41 @@ public class Player implements PlayableCharacter {
     private final Timer deathTimer;
     @Getter
     private final Timer lobbyTimer;
+    /**
+     * The text telling the player how to leave, which is only made once the UI of the player of the client is added.
+     */
+    private EscapeKeyText escapeKeyText;
+    /**
+     * The store that holds the position and rotation of this {@code Player}.
+     */
+    private final EntityStore store;
+    /**
+     * The slot of this {@code Player} in the {@link Player#store}.
+     */
     @Getter
-    private Polygon polygon;
+    private final int slot;
     /**
-     * The {@link Sprite} of this {@code Player} that represents the {@code Player}
-     * in the live game visually.
+     * The handle of this {@code Player} in the {@link Player#store}.
      */
-    private Sprite sprite;
+    @Getter
+    private final int handle;
     /**
-     * The respective {@link com.badlogic.gdx.Input.Keys} that are bound to
-     * {@link Runnable} methods defined in this class.
+     * The collision shape of this {@code Player}. Its position is only brought up to date with the
+     * {@link Player#store} when it is asked for.
      */
-    private Int2ObjectMap<PlayerAction> keyBinds;
+    private final Hitbox hitbox;
     /**
-     * The currently active {@link Flag}s on the {@code Player}.
+     * The {@link Sprite} of this {@code Player} that represents the {@code Player}
+     * in the live game visually. Its position is only brought up to date with the {@link Player#store}
+     * when it is drawn. The simulation replaces it when the player's appearance changes while the render thread
+     * draws it, so it is volatile and only read once per draw.
      */
-    private final ObjectSet<Flag> flags;
+    private volatile Sprite sprite;
     /**
-     * The currently active {@link Flag}s on the {@code Player} that will soon be removed. This is cleared whenever
-     * the respective {@link Player#flags} have been removed from their {@link ObjectSet}.
+     * The respective {@link com.badlogic.gdx.Input.Keys} that are bound to
+     * {@link Runnable} methods defined in this class.
      */
-    private final ObjectSet<Flag> flagsToRemove;
+    private Int2ObjectMap<PlayerAction> keyBinds;
     @Getter @Setter
     private int hitpoints;
     @Getter
@@ -97,7 +124,8 @@ public class Player implements PlayableCharacter {
     @Getter
     private int maxHitpoints;
     /**
-     * The animation currently rendering for the player.
+     * The animation currently rendering for the player. It belongs to the render thread, which starts it and
+     * clears it once it has finished.
      */
     private SpriteAnimation currentAnimation;
     /**
@@ -118,40 +146,39 @@ public class Player implements PlayableCharacter {
         this.username = username;
         this.maxHitpoints = maxHitpoints;
         hitpoints = maxHitpoints;
-        flags = new ObjectArraySet<>();
-        flagsToRemove = new ObjectArraySet<>();
+        store = MoribundClient.getInstance().getEntityStore();
+        slot = store.allocate();
+        handle = store.getHandle(slot);
         sprite = new Sprite(SpriteContainer.getInstance().getSprite(SpriteFile.PLAYER));
         inventory = new Inventory();
         equipment = new Equipment();
         healthBar = new LocalHealthBar(this);
         deathTimer = new DeathTimer(FontFile.CODE_BOLD, LocalHealthBar.X_LOCATION + 35, LocalHealthBar.Y_LOCATION + 50, 1.0f);
         lobbyTimer = new LobbyTimer(FontFile.CODE_LIGHT, (Gdx.graphics.getWidth() / 2) - 10, Gdx.graphics.getHeight() - 50, 1.0f);
-        polygon = new Polygon(SpriteVertices.PLAYER.getVertices());
-        polygon.setOrigin(sprite.getOriginX(), sprite.getOriginY());
+        hitbox = new Hitbox(SpriteVertices.PLAYER.getShape(), sprite.getOriginX(), sprite.getOriginY());
     }
 
+    /**
+     * Adds the UI of the player of the client to the {@link Hud}. Adding it again does nothing, as the HUD never
+     * holds the same asset twice.
+     */
     public void addUIAssets() {
-        val assets = MoribundClient.getInstance().getDrawableUIAssets();
-        assets.add(inventory);
-        assets.add(equipment);
-        assets.add(healthBar);
-        assets.add(deathTimer);
-        assets.add(lobbyTimer);
-        assets.add(new EscapeKeyText(FontFile.CODE_BOLD_2));
+        if (escapeKeyText == null) {
+            escapeKeyText = new EscapeKeyText(FontFile.CODE_BOLD_2);
+        }
+        val hud = MoribundClient.getInstance().getHud();
+        hud.add(HudLayer.CONTAINERS, inventory);
+        hud.add(HudLayer.CONTAINERS, equipment);
+        hud.add(HudLayer.BARS, healthBar);
+        hud.add(HudLayer.TEXT, deathTimer);
+        hud.add(HudLayer.TEXT, lobbyTimer);
+        hud.add(HudLayer.TEXT, escapeKeyText);
     }
 
     private void changeCharacter(SpriteFile spriteFile, SpriteVertices spriteVertices) {
         val sprite = new Sprite(SpriteContainer.getInstance().getSprite(spriteFile));
-        sprite.setPosition(this.sprite.getX(), this.sprite.getY());
-        sprite.setRotation(this.sprite.getRotation());
         this.sprite = sprite;
-
-        val polygon = new Polygon();
-        polygon.setVertices(spriteVertices.getVertices());
-        polygon.setOrigin(sprite.getOriginX(), sprite.getOriginY());
-        polygon.setPosition(this.polygon.getX(), this.polygon.getY());
-        polygon.setRotation(this.polygon.getRotation());
-        this.polygon = polygon;
+        hitbox.setShape(spriteVertices.getShape(), sprite.getOriginX(), sprite.getOriginY());
     }
 
     /**
@@ -160,7 +187,7 @@ public class Player implements PlayableCharacter {
      * @param flag The {@link Flag} to flag.
      */
     private void flag(Flag flag) {
-        flags.add(flag);
+        store.setFlags(slot, flag.getMask());
     }
 
     /**
@@ -168,26 +195,35 @@ public class Player implements PlayableCharacter {
      *
      * @param flag The {@link Flag} that is not longer active.
      */
-    private void flagToRemove(Flag flag) {
-        flagsToRemove.add(flag);
+    private void unflag(Flag flag) {
+        store.clearFlags(slot, flag.getMask());
     }
 
+    /**
+     * Does nothing, as a player has nothing that follows from its flags other than its movement.
+     */
     @Override
     public void processFlags() {
-        flags.removeAll(flagsToRemove);
-        flagsToRemove.clear();
-        flags.forEach(flag -> flag.processFlag(this));
     }
 
     @Override
     public void setRotation(float angle) {
-        sprite.setRotation(angle);
-        polygon.setRotation(angle);
+        store.setRotation(slot, angle);
     }
 
     @Override
     public float getRotation() {
-        return sprite.getRotation();
+        return store.getRotation(slot);
+    }
+
+    /**
+     * Gets the {@link Hitbox} of the player, brought up to date with the {@link Player#store}.
+     * @return The {@link Hitbox} of the player.
+     */
+    @Override
+    public Hitbox getHitbox() {
+        hitbox.sync(store, slot);
+        return hitbox;
     }
 
     @Override
@@ -200,7 +236,7 @@ public class Player implements PlayableCharacter {
 
             @Override
             public void keyUnpressed() {
-                flagToRemove(FlagConstants.MOVE_UP_FLAG);
+                unflag(FlagConstants.MOVE_UP_FLAG);
             }
         });
         keyBinds.put(Input.Keys.S, new PlayerAction() {
@@ -211,7 +247,7 @@ public class Player implements PlayableCharacter {
 
             @Override
             public void keyUnpressed() {
-                flagToRemove(FlagConstants.MOVE_DOWN_FLAG);
+                unflag(FlagConstants.MOVE_DOWN_FLAG);
             }
         });
         keyBinds.put(Input.Keys.D, new PlayerAction() {
@@ -222,7 +258,7 @@ public class Player implements PlayableCharacter {
 
             @Override
             public void keyUnpressed() {
-                flagToRemove(FlagConstants.MOVE_RIGHT_FLAG);
+                unflag(FlagConstants.MOVE_RIGHT_FLAG);
             }
         });
         keyBinds.put(Input.Keys.A, new PlayerAction() {
@@ -233,7 +269,7 @@ public class Player implements PlayableCharacter {
 
             @Override
             public void keyUnpressed() {
-                flagToRemove(FlagConstants.MOVE_LEFT_FLAG);
+                unflag(FlagConstants.MOVE_LEFT_FLAG);
             }
         });
         keyBinds.put(Input.Keys.E, new PlayerAction() {
@@ -277,43 +313,76 @@ public class Player implements PlayableCharacter {
 
     private void sendPickupItemRequest(GroundItem groundItem) {
         val packetDispatcher = MoribundClient.getInstance().getPacketDispatcher();
-        val pickupItemPacket = new PickupItemPacket(gameId, playerId, groundItem.getItemType().getId(), groundItem.getX(), groundItem.getY());
+        val pickupItemPacket = new PickupItemPacket(gameId, playerId, groundItem.getId());
         packetDispatcher.sendTCP(pickupItemPacket);
     }
 
+    /**
+     * Finds the ground item the player is standing over whose center is closest to the player's. Only the ground
+     * items that share a cell of the {@link MoribundClient#getGroundItemGrid()} with the player are looked at.
+     * @return The nearest ground item, or null should the player not be standing over any.
+     */
     private GroundItem getPickableObjectNearest() {
-        for (GroundItem groundItem : MoribundClient.getInstance().getGroundItems()) {
-            if (groundItem.isTouching(sprite.getBoundingRectangle())) {
-                return groundItem;
+        // the sprite belongs to the render thread, so the player's bounds are taken from its hitbox instead
+        val hitbox = getHitbox();
+        val bounds = PICKUP_BOUNDS.set(hitbox.getMinX(), hitbox.getMinY(),
+                hitbox.getMaxX() - hitbox.getMinX(), hitbox.getMaxY() - hitbox.getMinY());
+        val centerX = bounds.x + bounds.width / 2;
+        val centerY = bounds.y + bounds.height / 2;
+        PICKUP_CANDIDATES.clear();
+        MoribundClient.getInstance().getGroundItemGrid().query(bounds, PICKUP_CANDIDATES);
+
+        GroundItem nearest = null;
+        float nearestDistance = Float.MAX_VALUE;
+        for (int i = 0; i < PICKUP_CANDIDATES.size(); i++) {
+            val groundItem = PICKUP_CANDIDATES.get(i);
+            if (!groundItem.isTouching(bounds)) {
+                continue;
+            }
+            val itemBounds = groundItem.getBounds();
+            val dx = itemBounds.x + itemBounds.width / 2 - centerX;
+            val dy = itemBounds.y + itemBounds.height / 2 - centerY;
+            val distance = dx * dx + dy * dy;
+            if (distance < nearestDistance) {
+                nearest = groundItem;
+                nearestDistance = distance;
             }
         }
-        return null;
+        return nearest;
     }
 
     @Override
     public float getX() {
-        return sprite.getX();
+        return store.getX(slot);
     }
 
     @Override
     public float getY() {
-        return sprite.getY();
+        return store.getY(slot);
     }
 
     @Override
     public void setX(float x) {
-        sprite.setX(x);
-        polygon.setPosition(x, getY());
+        store.setX(slot, x);
     }
 
     @Override
     public void setY(float y) {
-        sprite.setY(y);
-        polygon.setPosition(getX(), y);
+        store.setY(slot, y);
     }
 
+    /**
+     * Draws the player, unless it has been culled. A player that is animating is always drawn so that its
+     * animation is able to finish.
+     */
     @Override
-    public void draw(Batch batch) {
+    public void draw(Batch batch, int slot) {
+        val renderState = store.getRenderState();
+        if (currentAnimation == null && !renderState.isVisible(slot)) {
+            return;
+        }
+        val sprite = this.sprite;
+        renderState.syncSprite(slot, sprite);
         if (currentAnimation != null) {
             currentAnimation.drawAnimation(batch, sprite);
             if (currentAnimation.isFinished()) {
@@ -323,20 +392,21 @@ public class Player implements PlayableCharacter {
         } else {
             sprite.draw(batch);
         }
-        drawUniversalHealthBar(batch);
+        drawUniversalHealthBar(batch, sprite);
     }
 
-    private void drawUniversalHealthBar(Batch batch) {
+    private void drawUniversalHealthBar(Batch batch, Sprite sprite) {
         val hitpointsPercentage = hitpoints / (double) maxHitpoints;
         val biggestLength = Math.max(sprite.getHeight(), sprite.getWidth());
-        batch.draw(GLUtils.getRedTexture(), getX() + 3, getY() + biggestLength + 10, biggestLength - 20, 10);
-        batch.draw(GLUtils.getGreenTexture(), getX() + 3, getY() + biggestLength + 10, (int) ((biggestLength - 20) * hitpointsPercentage), 10);
+        batch.draw(GLUtils.getRedTexture(), sprite.getX() + 3, sprite.getY() + biggestLength + 10, biggestLength - 20, 10);
+        batch.draw(GLUtils.getGreenTexture(), sprite.getX() + 3, sprite.getY() + biggestLength + 10, (int) ((biggestLength - 20) * hitpointsPercentage), 10);
     }
 
     @Override
     public void updateAppearance() {
-        for (Item item : equipment.getItems()) {
-            val equippedItemType = EquippedItemType.getItemType(item.getItemType().getId());
+        val itemIds = equipment.getItemIds();
+        for (int i = 0; i < itemIds.size(); i++) {
+            val equippedItemType = EquippedItemType.getItemType(itemIds.getInt(i));
             if (equippedItemType != null) {
                 changeCharacter(equippedItemType.getSpriteFile(), equippedItemType.getSpriteVertices());
                 return;
@@ -347,18 +417,25 @@ public class Player implements PlayableCharacter {
 
     @Override
     public void animateThenLaunch(Animation animation, ProjectileType projectileType, int movementSpeed) {
-        currentAnimation = AnimationContainer.getInstance().getAnimation(animation.getFile());
-        val projectile = Projectile.builder()
-                .by(this)
-                .type(projectileType)
-                .withMovementSpeed(movementSpeed)
-                .ignoring(this)
-                .create();
-        currentAnimation.whenEnded(() -> {
+        val spriteAnimation = AnimationContainer.getInstance().getAnimation(animation.getFile());
+        currentAnimation = spriteAnimation;
+        // the animation is drawn by the render thread, but the projectile is launched by the simulation at the tick
+        // the animation reaches its last frame. It is only taken from its pool then, so that nothing is left out of
+        // the pool should the timers be cleared first, and not at all should the player have left the world by then
+        val ticks = MathUtils.ceil(spriteAnimation.getTimeToLastFrame() * MoribundClient.TICKS_PER_SECOND);
+        Simulation.getInstance().getTimers().schedule(ticks, () -> {
+            if (!store.isCurrent(handle)) {
+                return;
+            }
+            val projectile = Projectile.builder()
+                    .by(this)
+                    .type(projectileType)
+                    .atXY(getX(), getY())
+                    .withAngle(getRotation())
+                    .withMovementSpeed(movementSpeed)
+                    .ignoring(this)
+                    .create();
             if (projectile != null) {
-                projectile.setX(getX());
-                projectile.setY(getY());
-                projectile.setRotation(getRotation());
                 Projectile.launchProjectile(projectile);
             }
         });
@@ -366,30 +443,22 @@ public class Player implements PlayableCharacter {
 
     @Override
     public void moveUp() {
-        val speed = getYVelocity(false);
-        sprite.translateY(speed);
-        polygon.translate(0, speed);
+        store.translate(slot, 0, getYVelocity(false));
     }
 
     @Override
     public void moveDown() {
-        val speed = getYVelocity(true);
-        sprite.translateY(speed);
-        polygon.translate(0, speed);
+        store.translate(slot, 0, getYVelocity(true));
     }
 
     @Override
     public void moveRight() {
-        val speed = getXVelocity(false);
-        sprite.translateX(speed);
-        polygon.translate(speed, 0);
+        store.translate(slot, getXVelocity(false), 0);
     }
 
     @Override
     public void moveLeft() {
-        val speed = getXVelocity(true);
-        sprite.translateX(speed);
-        polygon.translate(speed, 0);
+        store.translate(slot, getXVelocity(true), 0);
     }
 
     private float getXVelocity(boolean back) {
@@ -486,9 +555,10 @@ public class Player implements PlayableCharacter {
 
     @Override
     public void collide(Projectile projectile) {
-        projectile.removeProjectile();
         MoribundClient.getInstance().getPacketDispatcher().sendTCP(
                 new ProjectileCollisionPacket(gameId, playerId, projectile.getSource().getPlayerId(), projectile.getProjectileType().getId()));
+        // the projectile is reset as it goes back into its pool, so it is only removed once the packet is made
+        projectile.removeProjectile();
     }
 
     @Override
@@ -512,8 +582,8 @@ public class Player implements PlayableCharacter {
     }
 
     @Override
-    public void faceLocation(Vector3 location) {
-        float angle = (float) ((Math.atan2 (getX() - location.x, - (getY() - location.y)) * 180.0d / Math.PI) + 90.0f);
+    public void faceLocation(float x, float y) {
+        float angle = (float) ((Math.atan2 (getX() - x, - (getY() - y)) * 180.0d / Math.PI) + 90.0f);
         setRotation(angle);
     }
 
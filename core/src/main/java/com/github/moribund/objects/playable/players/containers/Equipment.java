@@ -1,10 +1,10 @@
 package com.github.moribund.objects.playable.players.containers;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.github.moribund.MoribundClient;
 import com.github.moribund.graphics.drawables.DrawableUIAsset;
+import com.github.moribund.graphics.hud.StaticHudPart;
 import com.github.moribund.graphics.sprites.SpriteContainer;
 import com.github.moribund.graphics.sprites.SpriteFile;
 import com.github.moribund.net.packets.items.UnequipItemPacket;
@@ -14,7 +14,7 @@ import lombok.val;
 /**
  * The {@code Equipment} {@link ItemContainer}.
  */
-public class Equipment extends ItemContainer implements DrawableUIAsset {
+public class Equipment extends ItemContainer implements DrawableUIAsset, StaticHudPart {
 
     /**
      * The capacity of the slots in the equipment.
@@ -22,45 +22,31 @@ public class Equipment extends ItemContainer implements DrawableUIAsset {
     private static final int SLOTS = 2;
 
     /**
-     * The sprite of a single equipment background.
+     * Where the slots are drawn, which is only laid out once the equipment is first drawn or cached, as only the
+     * equipment of the player of the client ever is.
      */
-    private final Sprite singularSprite;
+    private SlotLayout layout;
 
-    /**
-     * The {@link Sprite} array of slots.
-     */
-    private final Sprite[] slots;
+    @Override
+    public void cache(SpriteCache cache) {
+        getLayout().cache(cache);
+    }
 
-    /**
-     * Makes a new equipment item container, calling {@link Equipment#initiateUI()}.
-     */
-    public Equipment() {
-        singularSprite = SpriteContainer.getInstance().getSprite(SpriteFile.INVENTORY_SELECTED);
-        slots = new Sprite[SLOTS];
-        initiateUI();
+    @Override
+    public void draw(Batch batch) {
+        getLayout().draw(batch, items);
     }
 
     /**
-     * Initiates all the data in {@link Equipment#slots}.
+     * Gets where the slots are drawn, laying them out should they not have been yet.
+     * @return The layout of the slots.
      */
-    private void initiateUI() {
-        val centeringConstant = 175; // todo find a more mathematical way to do this
-        for (int i = 0; i < slots.length; i++) {
-            slots[i] = new Sprite(singularSprite);
-            slots[i].setX(Gdx.graphics.getWidth() - (slots[i].getWidth() * (Inventory.SLOTS + (i + 1))) - centeringConstant);
-            slots[i].setY(0);
-            slots[i].setAlpha(0.8f);
-        }
-    }
-
-    @Override
-    public void draw(Batch batch) {
-        for (Sprite sprite : slots) {
-            sprite.draw(batch);
-        }
-        for (int i = 0; i < items.size(); i++) {
-            items.get(i).draw(i, Gdx.graphics.getWidth() - (singularSprite.getWidth() * (Inventory.SLOTS + SLOTS)), batch);
+    private SlotLayout getLayout() {
+        if (layout == null) {
+            layout = new SlotLayout(SpriteContainer.getInstance().getSprite(SpriteFile.INVENTORY_SELECTED), SLOTS,
+                    Inventory.SLOTS);
         }
+        return layout;
     }
 
     /**
@@ -70,10 +56,10 @@ public class Equipment extends ItemContainer implements DrawableUIAsset {
      * @implNote This method assumes the y-coordinate of the equipment interface has been checked.
      */
     public void click(PlayableCharacter player, int screenX) {
-        val increment = 95;
+        val increment = SlotLayout.SLOT_SPACING;
         val startingXLeft = 184;
         val startingXRight = startingXLeft + increment;
-        for (int i = 0; i < slots.length; i++) {
+        for (int i = 0; i < SLOTS; i++) {
             if (screenX >= (startingXLeft + (increment * i)) && screenX <= (startingXRight + (increment * i))) {
                 sendUnequipItemPacket(player, i);
                 break;
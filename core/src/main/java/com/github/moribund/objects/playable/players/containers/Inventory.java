@@ -1,10 +1,10 @@
 package com.github.moribund.objects.playable.players.containers;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.github.moribund.MoribundClient;
 import com.github.moribund.graphics.drawables.DrawableUIAsset;
+import com.github.moribund.graphics.hud.StaticHudPart;
 import com.github.moribund.graphics.sprites.SpriteContainer;
 import com.github.moribund.graphics.sprites.SpriteFile;
 import com.github.moribund.net.packets.items.EquipItemPacket;
@@ -15,7 +15,7 @@ import lombok.val;
 /**
  * The {@code Inventory} {@link ItemContainer}.
  */
-public class Inventory extends ItemContainer implements DrawableUIAsset {
+public class Inventory extends ItemContainer implements DrawableUIAsset, StaticHudPart {
 
     /**
      * The capacity of the slots in the inventory.
@@ -23,14 +23,10 @@ public class Inventory extends ItemContainer implements DrawableUIAsset {
     public static final int SLOTS = 5;
 
     /**
-     * The sprite of a single equipment inventory.
+     * Where the slots are drawn, which is only laid out once the inventory is first drawn or cached, as only the
+     * inventory of the player of the client ever is.
      */
-    private final Sprite singularSprite;
-
-    /**
-     * The {@link Sprite} array of slots.
-     */
-    private final Sprite[] slots;
+    private SlotLayout layout;
 
     /**
      * Has a slot been selected?
@@ -48,37 +44,32 @@ public class Inventory extends ItemContainer implements DrawableUIAsset {
     private int slotSelected2;
 
     /**
-     * Makes a new inventory item container, calling {@link Inventory#initiateUI()}.
+     * Makes a new inventory item container.
      */
     public Inventory() {
-        singularSprite = SpriteContainer.getInstance().getSprite(SpriteFile.INVENTORY_UNSELECTED);
-        slots = new Sprite[SLOTS];
         slotSelected1 = -1;
         slotSelected2 = -1;
-        initiateUI();
     }
 
-    /**
-     * Initiates all the data in {@link Inventory#slots}.
-     */
-    private void initiateUI() {
-        val centeringConstant = 175; // todo find a more mathematical way to do this
-        for (int i = 0; i < slots.length; i++) {
-            slots[i] = new Sprite(singularSprite);
-            slots[i].setX(Gdx.graphics.getWidth() - (slots[i].getWidth() * (i + 1)) - centeringConstant);
-            slots[i].setY(0);
-            slots[i].setAlpha(0.8f);
-        }
+    @Override
+    public void cache(SpriteCache cache) {
+        getLayout().cache(cache);
     }
 
     @Override
     public void draw(Batch batch) {
-        for (Sprite sprite : slots) {
-            sprite.draw(batch);
-        }
-        for (int i = 0; i < items.size(); i++) {
-            items.get(i).draw(i, Gdx.graphics.getWidth() - (singularSprite.getWidth() * SLOTS), batch);
+        getLayout().draw(batch, items);
+    }
+
+    /**
+     * Gets where the slots are drawn, laying them out should they not have been yet.
+     * @return The layout of the slots.
+     */
+    private SlotLayout getLayout() {
+        if (layout == null) {
+            layout = new SlotLayout(SpriteContainer.getInstance().getSprite(SpriteFile.INVENTORY_UNSELECTED), SLOTS, 0);
         }
+        return layout;
     }
 
     /**
@@ -109,10 +100,10 @@ public class Inventory extends ItemContainer implements DrawableUIAsset {
      * @return The slot based on the coordinate clicked.
      */
     public int getSlotFromClick(int screenX) {
-        val increment = 95;
+        val increment = SlotLayout.SLOT_SPACING;
         val startingXLeft = 279;
         val startingXRight = startingXLeft + increment;
-        for (int i = 0; i < slots.length; i++) {
+        for (int i = 0; i < SLOTS; i++) {
             if (screenX >= (startingXLeft + (increment * (i + 1))) && screenX <= (startingXRight + (increment * (i + 1)))) {
                 return i;
             }
@@ -2,33 +2,85 @@ package com.github.moribund.objects.playable.players.containers;
 
 import com.github.moribund.objects.nonplayable.items.Item;
 import com.github.moribund.objects.nonplayable.items.ItemType;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectList;
 import lombok.Getter;
+import lombok.val;
 
 /**
- * An {@code ItemContainer} is a class that contains an {@link ObjectList<Item>}.
+ * An {@code ItemContainer} is a class that contains an {@link ObjectList<Item>}. The item ID of each slot is kept in
+ * an {@link IntList}, and the server's IDs are diffed against it, so that the items are only made again when one has
+ * changed. Each slot holds the shared {@link Item} of its type, or null should its ID be of no known type.
+ * <p>
+ * The IDs belong to whichever thread steps the {@link com.github.moribund.simulation.Simulation}, which applies the
+ * server's changes, while the items are drawn and clicked on the render thread. So that the render thread never sees
+ * a list part way through being changed, the items are never changed once made: a change publishes a new list in
+ * their place, which only happens when the server has changed a slot.
  */
 public abstract class ItemContainer {
 
     /**
-     * The list of items that are being contained.
+     * The item of each slot, which is replaced rather than changed.
      */
     @Getter
-    final ObjectList<Item> items;
+    volatile ObjectList<Item> items;
+
+    /**
+     * The item ID of each slot.
+     */
+    @Getter
+    private final IntList itemIds;
+
+    /**
+     * The number of times the items have changed, with which the UI can tell if it has anything new to draw.
+     */
+    @Getter
+    private volatile int version;
 
     ItemContainer() {
         items = new ObjectArrayList<>();
+        itemIds = new IntArrayList();
     }
 
     /**
-     * Sets the {@link Item}s using item IDs.
+     * Sets the item IDs, touching only the slots whose IDs differ from the ones already held, and publishes the
+     * {@link Item}s of the new IDs should any have changed.
      * @param itemIds The item IDs to make {@link Item}s out of.
      */
     public void setItemIds(ObjectList<Integer> itemIds) {
-        items.clear();
-        for (int itemId : itemIds) {
-            items.add(new Item(ItemType.getItemType(itemId)));
+        boolean changed = false;
+        val shared = Math.min(itemIds.size(), this.itemIds.size());
+        for (int slot = 0; slot < shared; slot++) {
+            final int itemId = itemIds.get(slot);
+            if (this.itemIds.getInt(slot) != itemId) {
+                this.itemIds.set(slot, itemId);
+                changed = true;
+            }
+        }
+        for (int slot = shared; slot < itemIds.size(); slot++) {
+            this.itemIds.add((int) itemIds.get(slot));
+            changed = true;
+        }
+        if (this.itemIds.size() > itemIds.size()) {
+            this.itemIds.size(itemIds.size());
+            changed = true;
+        }
+        if (changed) {
+            publishItems();
+            version++;
+        }
+    }
+
+    /**
+     * Makes the items of the current IDs and puts them in place of the previous ones.
+     */
+    private void publishItems() {
+        val published = new ObjectArrayList<Item>(itemIds.size());
+        for (int slot = 0; slot < itemIds.size(); slot++) {
+            published.add(Item.of(ItemType.getItemType(itemIds.getInt(slot))));
         }
+        items = published;
     }
 }
@@ -0,0 +1,96 @@
+package com.github.moribund.objects.playable.players.containers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.github.moribund.objects.nonplayable.items.Item;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.val;
+
+/**
+ * The {@code SlotLayout} is where the slots of an {@link ItemContainer} are on the screen: the background of each
+ * slot, and the position of the icon of the item in it. The slots sit in a row along the bottom of the screen,
+ * against the right edge, with the {@link Inventory} furthest right and the {@link Equipment} to the left of it. The
+ * positions are worked out once, from the width of the screen when the layout is made, so drawing the slots allocates
+ * nothing. They stay fixed should the window be resized, as the whole HUD is scaled with it rather than laid out
+ * again. The backgrounds never change, so they are put into the {@link com.github.moribund.graphics.hud.Hud}'s cache
+ * rather than drawn every frame.
+ */
+final class SlotLayout {
+
+    /**
+     * The distance between the left edges of two slots next to each other.
+     */
+    static final int SLOT_SPACING = 95;
+
+    /**
+     * The gap between the row of slots and the right edge of the screen.
+     */
+    private static final int RIGHT_MARGIN = 175;
+
+    /**
+     * The distance of an icon from the left edge of its slot.
+     */
+    private static final int ICON_INSET = 20;
+
+    /**
+     * The y-coordinate of the bottom of every icon.
+     */
+    private static final float ICON_Y = 20;
+
+    /**
+     * The background of each slot, already in place.
+     */
+    private final Sprite[] backgrounds;
+
+    /**
+     * The x-coordinate of the icon of each slot, the first slot being the furthest left.
+     */
+    private final float[] iconX;
+
+    /**
+     * Lays out a row of slots.
+     * @param background The background of a single slot, which is copied for each.
+     * @param slots The number of slots.
+     * @param slotsToTheRight The number of slots of other containers between this row and the right of the screen.
+     */
+    SlotLayout(Sprite background, int slots, int slotsToTheRight) {
+        backgrounds = new Sprite[slots];
+        iconX = new float[slots];
+        float screenWidth = Gdx.graphics.getWidth();
+        for (int i = 0; i < slots; i++) {
+            // the backgrounds are placed from the right, and the icons from the left
+            backgrounds[i] = new Sprite(background);
+            backgrounds[i].setX(screenWidth - (background.getWidth() * (slotsToTheRight + i + 1)) - RIGHT_MARGIN);
+            backgrounds[i].setY(0);
+            backgrounds[i].setAlpha(0.8f);
+            iconX[i] = screenWidth - (background.getWidth() * (slotsToTheRight + slots)) + (SLOT_SPACING * i)
+                    + ICON_INSET - RIGHT_MARGIN;
+        }
+    }
+
+    /**
+     * Adds the background of every slot to a cache that is being built.
+     * @param cache The cache.
+     */
+    void cache(SpriteCache cache) {
+        for (Sprite background : backgrounds) {
+            cache.add(background);
+        }
+    }
+
+    /**
+     * Draws the icon of every item, which goes on top of the backgrounds of the slots.
+     * @param batch The batch to draw to.
+     * @param items The item of each slot, null for an item of no known type.
+     */
+    void draw(Batch batch, ObjectList<Item> items) {
+        for (int i = 0; i < items.size() && i < iconX.length; i++) {
+            val item = items.get(i);
+            if (item != null) {
+                item.draw(batch, iconX[i], ICON_Y);
+            }
+        }
+    }
+}
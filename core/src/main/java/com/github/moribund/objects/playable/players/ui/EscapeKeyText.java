@@ -2,23 +2,32 @@ package com.github.moribund.objects.playable.players.ui;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.github.moribund.graphics.drawables.DrawableUIAsset;
 import com.github.moribund.graphics.fonts.FontContainer;
 import com.github.moribund.graphics.fonts.FontFile;
+import lombok.val;
 
+/**
+ * The text telling the player how to leave the game. It never changes, so its glyphs are laid out once.
+ */
 public class EscapeKeyText implements DrawableUIAsset {
 
-    private final BitmapFont font;
+    /**
+     * The glyphs of the text.
+     */
+    private final BitmapFontCache text;
 
     public EscapeKeyText(FontFile fontFile) {
-        font = FontContainer.getInstance().getFont(fontFile);
+        val font = FontContainer.getInstance().getFont(fontFile);
         font.getData().setScale(.5f);
+        text = new BitmapFontCache(font);
+        text.addText("Click the escape key", 30, Gdx.graphics.getHeight() - 25);
+        text.addText("to exit the game...", 30, Gdx.graphics.getHeight() - 45);
     }
 
     @Override
     public void draw(Batch spriteBatch) {
-        font.draw(spriteBatch, "Click the escape key", 30, Gdx.graphics.getHeight() - 25);
-        font.draw(spriteBatch, "to exit the game...", 30, Gdx.graphics.getHeight() - 45);
+        text.draw(spriteBatch);
     }
 }
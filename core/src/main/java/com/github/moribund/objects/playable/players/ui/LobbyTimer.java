@@ -1,31 +1,36 @@
 package com.github.moribund.objects.playable.players.ui;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.github.moribund.MoribundClient;
 import com.github.moribund.graphics.fonts.FontFile;
 
 /**
- * The visuals for the lobby timer.
+ * The visuals for the lobby timer. It shows 0:30 until the server first sends the time left.
  */
 public class LobbyTimer extends Timer {
 
+    /**
+     * The glyphs of the label above the time, which never changes.
+     */
+    private final BitmapFontCache label;
+
     public LobbyTimer(FontFile fontFile, int x, int y, float fontSize) {
         super(fontFile, x, y, fontSize);
+        label = new BitmapFontCache(font);
+        label.setText("Time until game starts...", x - 150, y + 30);
+        displayText = "0:30";
     }
 
     /**
-     * The lobby timer removes itself from the {@link MoribundClient#drawableUIAssets} at time 00:00.
+     * The lobby timer removes itself from the {@link MoribundClient#getHud()} at time 00:00.
      */
     @Override
     public void draw(Batch batch) {
         super.draw(batch);
-        font.draw(batch, "Time until game starts...", x - 150, y + 30);
-        if (displayText == null) {
-            font.draw(batch, "0:30", x, y);
-        } else {
-            if (displayText.equalsIgnoreCase("00:00")) {
-                MoribundClient.getInstance().getDrawableUIAssets().remove(this);
-            }
+        label.draw(batch);
+        if ("00:00".equalsIgnoreCase(displayText)) {
+            MoribundClient.getInstance().getHud().remove(this);
         }
     }
 }
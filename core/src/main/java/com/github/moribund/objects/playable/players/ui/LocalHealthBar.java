@@ -1,32 +1,59 @@
 package com.github.moribund.objects.playable.players.ui;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.github.moribund.graphics.drawables.DrawableUIAsset;
+import com.github.moribund.graphics.hud.StaticHudPart;
 import com.github.moribund.objects.playable.players.PlayableCharacter;
 import com.github.moribund.utils.GLUtils;
 import lombok.val;
 
 /**
- * The visuals for the local health bar.
+ * The visuals for the local health bar. The red background of the bar never changes, so it is a
+ * {@link StaticHudPart}, and only the green of the hitpoints left is drawn every frame.
  */
-public class LocalHealthBar implements DrawableUIAsset {
+public class LocalHealthBar implements DrawableUIAsset, StaticHudPart {
 
     public static final int X_LOCATION = 184;
     public static final int Y_LOCATION = 100;
 
+    /**
+     * The width of the bar when the hitpoints are full.
+     */
+    private static final int WIDTH = 95 * 7;
+
+    /**
+     * The height of the bar.
+     */
+    private static final int HEIGHT = 20;
+
     /**
      * The {@link PlayableCharacter} to use for the health bar.
      */
     private final PlayableCharacter playableCharacter;
 
+    /**
+     * The red background of the bar, which is made the first time it is cached, once there is a GL context to make
+     * its texture with, and reused every time the cache is built after that.
+     */
+    private TextureRegion background;
+
     public LocalHealthBar(PlayableCharacter playableCharacter) {
         this.playableCharacter = playableCharacter;
     }
 
+    @Override
+    public void cache(SpriteCache cache) {
+        if (background == null) {
+            background = new TextureRegion(GLUtils.getRedTexture());
+        }
+        cache.add(background, X_LOCATION, Y_LOCATION, WIDTH, HEIGHT);
+    }
+
     @Override
     public void draw(Batch batch) {
         val hitpointsPercentage = playableCharacter.getHitpoints() / (double) playableCharacter.getMaxHitpoints();
-        batch.draw(GLUtils.getRedTexture(), X_LOCATION, Y_LOCATION, 95 * 7, 20);
-        batch.draw(GLUtils.getGreenTexture(), X_LOCATION, Y_LOCATION, (int) ((95 * 7) * hitpointsPercentage), 20);
+        batch.draw(GLUtils.getGreenTexture(), X_LOCATION, Y_LOCATION, (int) (WIDTH * hitpointsPercentage), HEIGHT);
     }
 }
@@ -2,15 +2,17 @@ package com.github.moribund.objects.playable.players.ui;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.github.moribund.graphics.drawables.DrawableUIAsset;
 import com.github.moribund.graphics.fonts.FontContainer;
 import com.github.moribund.graphics.fonts.FontFile;
 import lombok.Setter;
+import lombok.val;
 
 /**
- * A visuals for a timer.
+ * A visuals for a timer. The glyphs of the text are laid out into a {@link BitmapFontCache} only when the text
+ * changes, which is once a second, rather than every frame.
  */
-// todo a future plan would be to add an interface system to fetch from the list in the MoribundClient class
 public class Timer implements DrawableUIAsset {
 
     /**
@@ -29,22 +31,40 @@ public class Timer implements DrawableUIAsset {
     final BitmapFont font;
 
     /**
-     * The text to display for the timer.
+     * The text to display for the timer, which is set from the thread the server's packets come in on.
      */
     @Setter
-    String displayText;
+    volatile String displayText;
+
+    /**
+     * The glyphs of the text, as laid out for {@link Timer#cachedText}.
+     */
+    private final BitmapFontCache text;
+
+    /**
+     * The text that is laid out in the {@link Timer#text}.
+     */
+    private String cachedText;
 
     Timer(FontFile fontFile, int x, int y, float fontSize) {
         this.x = x;
         this.y = y;
         font = FontContainer.getInstance().getFont(fontFile);
         font.getData().setScale(fontSize);
+        text = new BitmapFontCache(font);
     }
 
     @Override
     public void draw(Batch batch) {
-        if (displayText != null) {
-            font.draw(batch, displayText, x, y);
+        // read once, as the text can be changed by another thread while it is being drawn
+        val current = displayText;
+        if (current == null) {
+            return;
+        }
+        if (!current.equals(cachedText)) {
+            text.setText(current, x, y);
+            cachedText = current;
         }
+        text.draw(batch);
     }
 }
@@ -2,32 +2,28 @@ package com.github.moribund.objects.playable.players.ui;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.github.moribund.graphics.drawables.DrawableUIAsset;
 import com.github.moribund.graphics.fonts.FontContainer;
 import com.github.moribund.graphics.fonts.FontFile;
 
 /**
- * The "You won!" text interface.
+ * The "You won!" text interface. The text never changes once it is made, so its glyphs are laid out once.
  */
 public class VictoryRoyaleText implements DrawableUIAsset {
 
     /**
-     * The username of the player that won.
+     * The glyphs of the "You won!" text.
      */
-    private final String username;
-    /**
-     * The font used to write the "You won!" text.
-     */
-    private final BitmapFont font;
+    private final BitmapFontCache text;
 
     public VictoryRoyaleText(String username, FontFile file) {
-        this.username = username;
-        font = FontContainer.getInstance().getFont(file);
+        text = new BitmapFontCache(FontContainer.getInstance().getFont(file));
+        text.setText(username + " won!", (Gdx.graphics.getWidth() / 2f) - 100, Gdx.graphics.getHeight() - 20);
     }
 
     @Override
     public void draw(Batch spriteBatch) {
-        font.draw(spriteBatch, username + " won!", (Gdx.graphics.getWidth() / 2f) - 100, Gdx.graphics.getHeight() - 20);
+        text.draw(spriteBatch);
     }
 }
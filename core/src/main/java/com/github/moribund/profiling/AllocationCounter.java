@@ -0,0 +1,90 @@
+package com.github.moribund.profiling;
+
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * The {@code AllocationCounter} reads how many bytes the current thread has allocated through
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}, so that the allocations of a stretch of code
+ * are the difference between a read before it and a read after it. Reading allocates a little itself; that amount is
+ * measured once up front and taken back off every read, so nested reads, such as those of each tick within a frame,
+ * do not add up into the stretch around them.
+ * <p>
+ * It is only supported on a JVM whose thread bean counts allocations, which HotSpot does; elsewhere every read is 0.
+ */
+@UtilityClass
+public class AllocationCounter {
+
+    /**
+     * The bean of the JVM that counts allocations, or null should it not be able to.
+     */
+    private final com.sun.management.ThreadMXBean threads = findThreads();
+
+    /**
+     * The bytes a read itself allocates.
+     */
+    private final long overhead = measureOverhead();
+
+    /**
+     * The number of reads each thread has made, whose allocations are taken back off.
+     */
+    private final ThreadLocal<long[]> reads = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Checks if allocations can be counted.
+     * @return If the JVM counts allocations.
+     */
+    public boolean isSupported() {
+        return threads != null;
+    }
+
+    /**
+     * Gets the bytes the current thread has allocated, not counting those allocated by reading them.
+     * @return The bytes, which only ever grow, or 0 should allocations not be counted.
+     */
+    public long allocatedBytes() {
+        if (threads == null) {
+            return 0;
+        }
+        val count = reads.get();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - overhead * count[0]++;
+    }
+
+    private com.sun.management.ThreadMXBean findThreads() {
+        try {
+            val bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+                return null;
+            }
+            val threads = (com.sun.management.ThreadMXBean) bean;
+            if (!threads.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        } catch (LinkageError | UnsupportedOperationException e) {
+            // the com.sun.management classes are not part of every JVM
+            return null;
+        }
+    }
+
+    /**
+     * Measures the bytes a read allocates, as the least of several back-to-back reads, so that a collection or the
+     * thread local being made in between does not count.
+     */
+    private long measureOverhead() {
+        if (threads == null) {
+            return 0;
+        }
+        val id = Thread.currentThread().getId();
+        long least = Long.MAX_VALUE;
+        for (int i = 0; i < 16; i++) {
+            val before = threads.getThreadAllocatedBytes(id);
+            val after = threads.getThreadAllocatedBytes(id);
+            least = Math.min(least, after - before);
+        }
+        return least;
+    }
+}
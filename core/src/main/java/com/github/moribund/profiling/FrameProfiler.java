@@ -0,0 +1,176 @@
+package com.github.moribund.profiling;
+
+import lombok.Getter;
+import lombok.extern.java.Log;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The {@code FrameProfiler} times each {@link Phase} of every frame of the render thread and every tick of the
+ * {@link com.github.moribund.simulation.Simulation} into a {@link Timeline} of each. Where the
+ * {@link com.github.moribund.simulation.PipelineStatistics} tells how long a whole frame takes, the profiler tells
+ * which part of it the time went to, and keeps the last few seconds of it sample by sample, so that a single slow
+ * frame can be picked apart rather than lost in an average.
+ * <p>
+ * It does nothing unless the {@code moribund.profiler} system property is set to {@code true}. When it is, the
+ * {@link ProfilerOverlay} draws the recent frames over the game, and at the end of every match the percentiles of each
+ * phase are logged and the kept samples are written out as a trace that {@code chrome://tracing} and Perfetto open.
+ * The trace is written to the path of the {@code moribund.profiler.trace} system property, or to a file of its own in
+ * the working directory should it not be set.
+ * <p>
+ * With the {@code moribund.profiler.allocations} system property also set to {@code true}, the bytes each frame, tick,
+ * and phase allocate are counted along with their time, through the {@link AllocationCounter}, and reported, drawn,
+ * and traced next to it.
+ */
+@Log
+public final class FrameProfiler {
+
+    /**
+     * The singleton instance of the profiler.
+     */
+    @Getter
+    private static final FrameProfiler instance = new FrameProfiler();
+
+    /**
+     * The system property that enables profiling.
+     */
+    private static final String ENABLED_PROPERTY = "moribund.profiler";
+
+    /**
+     * The system property of the path the trace is written to.
+     */
+    private static final String TRACE_PROPERTY = "moribund.profiler.trace";
+
+    /**
+     * The system property that enables counting allocations.
+     */
+    private static final String ALLOCATIONS_PROPERTY = "moribund.profiler.allocations";
+
+    /**
+     * The most samples each timeline keeps, which is ten seconds of frames or ticks at 60 a second.
+     */
+    private static final int CAPACITY = 600;
+
+    /**
+     * If anything is timed.
+     */
+    @Getter
+    private final boolean enabled;
+
+    /**
+     * The frames of the render thread.
+     */
+    @Getter
+    private final Timeline frames;
+
+    /**
+     * The ticks of the simulation, whichever thread steps it.
+     */
+    @Getter
+    private final Timeline ticks;
+
+    /**
+     * The {@link System#nanoTime()} that the times in traces count from.
+     */
+    private final long epoch;
+
+    private FrameProfiler() {
+        enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+        val allocations = Boolean.getBoolean(ALLOCATIONS_PROPERTY);
+        frames = new Timeline("render", enabled, allocations, CAPACITY);
+        ticks = new Timeline("simulation", enabled, allocations, CAPACITY);
+        epoch = System.nanoTime();
+    }
+
+    /**
+     * Wraps a change of the world so that applying it is timed as a {@link Phase#PACKETS} of the current frame. This
+     * is for changes applied on the render thread; nothing is wrapped when the profiler is not enabled.
+     * @param change The change of the world.
+     * @return The change to apply in its place.
+     */
+    public Runnable timePackets(Runnable change) {
+        if (!enabled) {
+            return change;
+        }
+        return () -> {
+            frames.begin(Phase.PACKETS);
+            change.run();
+            frames.end(Phase.PACKETS);
+        };
+    }
+
+    /**
+     * Logs the percentiles of each phase of both timelines, writes the kept samples out as a trace, and starts
+     * collecting anew, which is done at the end of every match once the simulation has stopped.
+     */
+    public void logReport() {
+        if (!enabled) {
+            return;
+        }
+        log.info("Profile: " + frames.getReport());
+        log.info("Profile: " + ticks.getReport());
+        val path = Paths.get(System.getProperty(TRACE_PROPERTY, "moribund-trace-" + System.currentTimeMillis()
+                + ".json"));
+        try {
+            exportTrace(path);
+            log.info("Profile trace written to " + path.toAbsolutePath());
+        } catch (IOException e) {
+            log.warning("Unable to write the profile trace to " + path + ": " + e.getMessage());
+        }
+        frames.reset();
+        ticks.reset();
+    }
+
+    /**
+     * Writes the kept samples of both timelines out in the Chrome trace event format, with each timeline as a thread
+     * of its own, and each sample and each phase that ran in it as a complete event.
+     * @param path The file to write to.
+     * @throws IOException Should the file not be writable.
+     */
+    public void exportTrace(Path path) throws IOException {
+        try (val writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+            writeTimeline(writer, frames, 1, "frame");
+            writer.write(',');
+            writeTimeline(writer, ticks, 2, "tick");
+            writer.write("]}");
+        }
+    }
+
+    /**
+     * Writes the name of a timeline's thread, followed by the events of its kept samples.
+     */
+    private void writeTimeline(Writer writer, Timeline timeline, int threadId, String sampleName) throws IOException {
+        writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + threadId
+                + ",\"args\":{\"name\":\"" + timeline.getName() + "\"}}");
+        for (int age = 0; age < timeline.getSize(); age++) {
+            writeEvent(writer, sampleName, timeline.getName(), timeline.getSampleStart(age),
+                    timeline.getSampleDuration(age), timeline.getSampleAllocations(age), threadId);
+            for (val phase : Phase.VALUES) {
+                val start = timeline.getPhaseStart(age, phase);
+                if (start != 0) {
+                    writeEvent(writer, phase.getLabel(), timeline.getName(), start,
+                            timeline.getPhaseDuration(age, phase), timeline.getPhaseAllocations(age, phase), threadId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a complete event, with its times in microseconds from the {@link FrameProfiler#epoch}. A phase that ran
+     * more than once in a sample is written as one event as long as all its runs, starting at its first. The bytes
+     * allocated are written as an argument of the event.
+     */
+    private void writeEvent(Writer writer, String name, String category, long start, long duration, long allocated,
+                            int threadId) throws IOException {
+        writer.write(",{\"name\":\"" + name + "\",\"cat\":\"" + category + "\",\"ph\":\"X\",\"ts\":"
+                + (start - epoch) / 1000d + ",\"dur\":" + duration / 1000d + ",\"pid\":1,\"tid\":" + threadId
+                + ",\"args\":{\"bytes\":" + allocated + "}}");
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.moribund.profiling;
+
+import com.badlogic.gdx.graphics.Color;
+import lombok.Getter;
+
+/**
+ * A {@code Phase} is a part of a frame or of a tick that the {@link FrameProfiler} times on its own. The phases of
+ * the render thread come first, followed by those of the {@link com.github.moribund.simulation.Simulation}, apart
+ * from {@link Phase#PACKETS}, which is timed by whichever thread applies the changes the server sends.
+ */
+public enum Phase {
+    /**
+     * Applying the changes the server has sent.
+     */
+    PACKETS("packets", Color.ORANGE),
+    /**
+     * Stepping the simulation on the render thread.
+     */
+    SIMULATE("simulate", Color.SKY),
+    /**
+     * Taking the latest tick from the {@link com.github.moribund.objects.entities.RenderState}.
+     */
+    ACQUIRE("acquire", Color.TEAL),
+    /**
+     * Moving the camera onto the player.
+     */
+    CAMERA("camera", Color.PURPLE),
+    /**
+     * Culling the entities outside of the camera's view.
+     */
+    CULL("cull", Color.YELLOW),
+    /**
+     * Drawing the background and the entities.
+     */
+    DRAW_GAME("draw game", Color.LIME),
+    /**
+     * Drawing the UI.
+     */
+    DRAW_UI("draw ui", Color.PINK),
+    /**
+     * Handing the mouse to the simulation.
+     */
+    INPUT("input", Color.WHITE),
+    /**
+     * Processing the flags of every flaggable, which is done once for the projectiles and once for everything
+     * else.
+     */
+    FLAGS("flags", Color.GOLD),
+    /**
+     * Firing the timers that are due.
+     */
+    TIMERS("timers", Color.MAROON),
+    /**
+     * Moving the collidables within the collision grid, before the projectiles look for what they hit.
+     */
+    COLLISION_GRID("collision grid", Color.CORAL),
+    /**
+     * Sending the player's rotation and location to the server.
+     */
+    SEND("send", Color.SLATE);
+
+    /**
+     * All the values of the {@code Phase} enum. This field is here to save memory, as {@link Phase#values()}
+     * makes a new array every time it is called.
+     */
+    public static final Phase[] VALUES = values();
+
+    /**
+     * The name of the phase in summaries and traces.
+     */
+    @Getter
+    private final String label;
+
+    /**
+     * The color of the phase in the {@link ProfilerOverlay}.
+     */
+    @Getter
+    private final Color color;
+
+    Phase(String label, Color color) {
+        this.label = label;
+        this.color = color;
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.moribund.profiling;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.github.moribund.MoribundClient;
+import com.github.moribund.graphics.drawables.DrawableUIAsset;
+import com.github.moribund.graphics.fonts.FontContainer;
+import com.github.moribund.graphics.fonts.FontFile;
+import com.github.moribund.utils.GLUtils;
+import lombok.val;
+
+/**
+ * The {@code ProfilerOverlay} draws the recent frames of the {@link FrameProfiler} in the top right of the screen,
+ * as a column for each frame with the time of each {@link Phase} stacked in its color and the time outside of any
+ * phase in gray, under a line at the length of a tick. The percentiles of the whole frame, and the phases that have
+ * run, are written above it, and are worked out again once a second rather than every frame. The bytes a frame
+ * allocates are written with them should they be counted.
+ */
+public final class ProfilerOverlay implements DrawableUIAsset {
+
+    /**
+     * The number of frames shown.
+     */
+    private static final int FRAMES = 180;
+
+    /**
+     * The width of the column of each frame, in pixels.
+     */
+    private static final int COLUMN_WIDTH = 2;
+
+    /**
+     * The height of a millisecond, in pixels.
+     */
+    private static final float PIXELS_PER_MILLISECOND = 4;
+
+    /**
+     * The height of the graph, above which longer frames are cut off, in pixels.
+     */
+    private static final int HEIGHT = 140;
+
+    /**
+     * The distance of the graph from the edges of the screen, in pixels.
+     */
+    private static final int MARGIN = 20;
+
+    /**
+     * The distance between lines of text, in pixels.
+     */
+    private static final int LINE_HEIGHT = 18;
+
+    /**
+     * The number of frames between the summary being worked out again.
+     */
+    private static final int REFRESH_INTERVAL = 60;
+
+    /**
+     * The color of the time outside of any phase.
+     */
+    private static final Color UNTIMED = new Color(0.4f, 0.4f, 0.4f, 0.8f);
+
+    /**
+     * The font the summary is written in.
+     */
+    private final BitmapFont font;
+
+    /**
+     * If each phase has run in any of the kept frames, as of the last refresh.
+     */
+    private final boolean[] shown = new boolean[Phase.VALUES.length];
+
+    /**
+     * The percentiles of the whole frame, as of the last refresh.
+     */
+    private String summary = "";
+
+    /**
+     * The number of frames drawn since the last refresh.
+     */
+    private int sinceRefresh = REFRESH_INTERVAL;
+
+    /**
+     * Makes an overlay written in a font.
+     * @param fontFile The font the summary is written in.
+     */
+    public ProfilerOverlay(FontFile fontFile) {
+        font = FontContainer.getInstance().getFont(fontFile);
+        font.getData().setScale(.5f);
+    }
+
+    @Override
+    public void draw(Batch batch) {
+        val frames = FrameProfiler.getInstance().getFrames();
+        if (++sinceRefresh >= REFRESH_INTERVAL) {
+            refresh(frames);
+        }
+
+        val left = Gdx.graphics.getWidth() - FRAMES * COLUMN_WIDTH - MARGIN;
+        val bottom = Gdx.graphics.getHeight() - HEIGHT - MARGIN - LINE_HEIGHT * 2;
+        val texture = GLUtils.getWhiteTexture();
+        val shownFrames = Math.min(FRAMES, frames.getSize());
+        for (int column = 0; column < shownFrames; column++) {
+            val age = frames.getSize() - shownFrames + column;
+            val x = left + (FRAMES - shownFrames + column) * COLUMN_WIDTH;
+            float y = bottom;
+            for (val phase : Phase.VALUES) {
+                val height = toPixels(frames.getPhaseDuration(age, phase), y - bottom);
+                if (height > 0) {
+                    batch.setColor(phase.getColor());
+                    batch.draw(texture, x, y, COLUMN_WIDTH, height);
+                    y += height;
+                }
+            }
+            val untimed = toPixels(frames.getSampleDuration(age), 0) - (y - bottom);
+            if (untimed > 0) {
+                batch.setColor(UNTIMED);
+                batch.draw(texture, x, y, COLUMN_WIDTH, untimed);
+            }
+        }
+        batch.setColor(Color.RED);
+        batch.draw(texture, left, bottom + MoribundClient.SECONDS_PER_TICK * 1000 * PIXELS_PER_MILLISECOND,
+                FRAMES * COLUMN_WIDTH, 1);
+        batch.setColor(Color.WHITE);
+
+        drawText(batch, left, bottom + HEIGHT);
+    }
+
+    /**
+     * Writes the summary, and under it the name of each phase that has run in its color.
+     */
+    private void drawText(Batch batch, float left, float top) {
+        font.setColor(Color.WHITE);
+        font.draw(batch, summary, left, top + LINE_HEIGHT * 2);
+        float x = left;
+        for (val phase : Phase.VALUES) {
+            if (shown[phase.ordinal()]) {
+                font.setColor(phase.getColor());
+                x += font.draw(batch, phase.getLabel(), x, top + LINE_HEIGHT).width + 8;
+            }
+        }
+        font.setColor(Color.WHITE);
+    }
+
+    /**
+     * Works out the summary and the phases that have run from the kept frames.
+     */
+    private void refresh(Timeline frames) {
+        sinceRefresh = 0;
+        summary = String.format("frame ms p50 %.2f p95 %.2f p99 %.2f max %.2f", frames.percentile(0.5) / 1_000_000d,
+                frames.percentile(0.95) / 1_000_000d, frames.percentile(0.99) / 1_000_000d,
+                frames.percentile(1) / 1_000_000d);
+        if (frames.isCountingAllocations()) {
+            summary += String.format(" | bytes p50 %d p99 %d", frames.allocationPercentile(0.5),
+                    frames.allocationPercentile(0.99));
+        }
+        for (val phase : Phase.VALUES) {
+            shown[phase.ordinal()] = frames.percentile(phase, 1) > 0;
+        }
+    }
+
+    /**
+     * Gets the height of a length of time in the graph, cut off at the top of the graph.
+     * @param nanos The length of time, in nanoseconds.
+     * @param below The height already taken up by the column, in pixels.
+     * @return The height, in pixels.
+     */
+    private static float toPixels(long nanos, float below) {
+        return Math.min(nanos / 1_000_000f * PIXELS_PER_MILLISECOND, HEIGHT - below);
+    }
+}
@@ -0,0 +1,412 @@
+package com.github.moribund.profiling;
+
+import lombok.Getter;
+import lombok.val;
+
+import java.util.Arrays;
+
+/**
+ * A {@code Timeline} is the recent history of one thread's frames or ticks, each split into the time spent in each
+ * {@link Phase}. A sample is opened with {@link Timeline#beginSample()}, the phases within it are timed with
+ * {@link Timeline#begin(Phase)} and {@link Timeline#end(Phase)}, and it is kept with {@link Timeline#endSample()}.
+ * A phase that is timed more than once in a sample, such as each packet that is applied, adds up into one.
+ * <p>
+ * The samples are kept in a ring of arrays made up front, so timing allocates nothing, and once the ring is full
+ * the oldest sample is written over. Timing does nothing when the {@link FrameProfiler} is not enabled. A timeline is
+ * only to be touched by its own thread, or by another once that thread has stopped.
+ * <p>
+ * A timeline can also count the bytes each sample and each phase allocate, through the {@link AllocationCounter}.
+ */
+public final class Timeline {
+
+    /**
+     * The number of phases each sample has a time for.
+     */
+    private static final int PHASES = Phase.VALUES.length;
+
+    /**
+     * The name of the thread, as shown in traces.
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * If anything is timed.
+     */
+    @Getter
+    private final boolean enabled;
+
+    /**
+     * If the bytes allocated are counted along with the time.
+     */
+    @Getter
+    private final boolean countingAllocations;
+
+    /**
+     * The most samples kept.
+     */
+    @Getter
+    private final int capacity;
+
+    /**
+     * The {@link System#nanoTime()} at which each sample started.
+     */
+    private final long[] sampleStarts;
+
+    /**
+     * The length of each sample, in nanoseconds.
+     */
+    private final long[] sampleDurations;
+
+    /**
+     * The {@link System#nanoTime()} at which each phase of each sample first started, or 0 should it not have run,
+     * with the phases of a sample next to each other.
+     */
+    private final long[] phaseStarts;
+
+    /**
+     * The time spent in each phase of each sample, in nanoseconds, laid out as {@link Timeline#phaseStarts}.
+     */
+    private final long[] phaseDurations;
+
+    /**
+     * The bytes allocated in each sample.
+     */
+    private final long[] sampleAllocations;
+
+    /**
+     * The bytes allocated in each phase of each sample, laid out as {@link Timeline#phaseStarts}.
+     */
+    private final long[] phaseAllocations;
+
+    /**
+     * The {@link System#nanoTime()} at which each phase of the open sample first started, or 0 should it not have
+     * run yet.
+     */
+    private final long[] openStarts = new long[PHASES];
+
+    /**
+     * The time spent so far in each phase of the open sample.
+     */
+    private final long[] openDurations = new long[PHASES];
+
+    /**
+     * The bytes allocated so far in each phase of the open sample.
+     */
+    private final long[] openAllocations = new long[PHASES];
+
+    /**
+     * The {@link System#nanoTime()} at which each phase was last begun.
+     */
+    private final long[] begunAt = new long[PHASES];
+
+    /**
+     * The {@link AllocationCounter#allocatedBytes()} at which each phase was last begun.
+     */
+    private final long[] allocatedAt = new long[PHASES];
+
+    /**
+     * The values that percentiles are worked out from, which are sorted in place.
+     */
+    private final long[] scratch;
+
+    /**
+     * The {@link System#nanoTime()} at which the open sample started, or 0 should none be open.
+     */
+    private long openStart;
+
+    /**
+     * The {@link AllocationCounter#allocatedBytes()} at the first thing timed in the open sample, or -1 should
+     * nothing have been timed in it yet.
+     */
+    private long openAllocated = -1;
+
+    /**
+     * The index the next sample is kept at.
+     */
+    private int next;
+
+    /**
+     * The number of samples kept.
+     */
+    @Getter
+    private int size;
+
+    /**
+     * Makes an empty timeline.
+     * @param name The name of the thread, as shown in traces.
+     * @param enabled If anything is timed.
+     * @param countingAllocations If the bytes allocated are counted along with the time, which they are not should
+     *                            the {@link AllocationCounter} not be supported.
+     * @param capacity The most samples kept.
+     */
+    public Timeline(String name, boolean enabled, boolean countingAllocations, int capacity) {
+        this.name = name;
+        this.enabled = enabled;
+        this.countingAllocations = enabled && countingAllocations && AllocationCounter.isSupported();
+        this.capacity = capacity;
+        sampleStarts = new long[capacity];
+        sampleDurations = new long[capacity];
+        phaseStarts = new long[capacity * PHASES];
+        phaseDurations = new long[capacity * PHASES];
+        sampleAllocations = new long[capacity];
+        phaseAllocations = new long[capacity * PHASES];
+        scratch = new long[capacity];
+    }
+
+    /**
+     * Opens a sample, such as at the start of a frame. Phases timed since the last sample was kept, such as packets
+     * applied between frames, belong to this sample.
+     */
+    public void beginSample() {
+        if (enabled) {
+            openStart = System.nanoTime();
+            if (countingAllocations && openAllocated < 0) {
+                openAllocated = AllocationCounter.allocatedBytes();
+            }
+        }
+    }
+
+    /**
+     * Starts timing a phase of the open sample.
+     * @param phase The phase.
+     */
+    public void begin(Phase phase) {
+        if (enabled) {
+            val now = System.nanoTime();
+            val index = phase.ordinal();
+            begunAt[index] = now;
+            if (openStarts[index] == 0) {
+                openStarts[index] = now;
+            }
+            if (countingAllocations) {
+                allocatedAt[index] = AllocationCounter.allocatedBytes();
+                if (openAllocated < 0) {
+                    openAllocated = allocatedAt[index];
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops timing a phase of the open sample, adding the time since it was begun to it.
+     * @param phase The phase.
+     */
+    public void end(Phase phase) {
+        if (enabled) {
+            val index = phase.ordinal();
+            openDurations[index] += System.nanoTime() - begunAt[index];
+            if (countingAllocations) {
+                openAllocations[index] += AllocationCounter.allocatedBytes() - allocatedAt[index];
+            }
+        }
+    }
+
+    /**
+     * Keeps the open sample, such as at the end of a frame. The sample starts at whichever came first of when it was
+     * opened and when its first phase started.
+     */
+    public void endSample() {
+        if (!enabled) {
+            return;
+        }
+        val now = System.nanoTime();
+        long start = openStart == 0 ? now : openStart;
+        for (int phase = 0; phase < PHASES; phase++) {
+            if (openStarts[phase] != 0 && openStarts[phase] < start) {
+                start = openStarts[phase];
+            }
+        }
+        sampleStarts[next] = start;
+        sampleDurations[next] = now - start;
+        System.arraycopy(openStarts, 0, phaseStarts, next * PHASES, PHASES);
+        System.arraycopy(openDurations, 0, phaseDurations, next * PHASES, PHASES);
+        if (countingAllocations) {
+            sampleAllocations[next] = openAllocated < 0 ? 0 : AllocationCounter.allocatedBytes() - openAllocated;
+            System.arraycopy(openAllocations, 0, phaseAllocations, next * PHASES, PHASES);
+        }
+        clearOpen();
+        next = (next + 1) % capacity;
+        size = Math.min(size + 1, capacity);
+    }
+
+    /**
+     * Gets the ring index of a kept sample.
+     * @param age The age of the sample, 0 being the oldest kept.
+     * @return The index of the sample in the ring.
+     */
+    private int indexOf(int age) {
+        return (next - size + age + capacity) % capacity;
+    }
+
+    /**
+     * Gets when a kept sample started.
+     * @param age The age of the sample, 0 being the oldest kept.
+     * @return The {@link System#nanoTime()} at which it started.
+     */
+    public long getSampleStart(int age) {
+        return sampleStarts[indexOf(age)];
+    }
+
+    /**
+     * Gets the length of a kept sample.
+     * @param age The age of the sample, 0 being the oldest kept.
+     * @return The length, in nanoseconds.
+     */
+    public long getSampleDuration(int age) {
+        return sampleDurations[indexOf(age)];
+    }
+
+    /**
+     * Gets when a phase of a kept sample first started.
+     * @param age The age of the sample, 0 being the oldest kept.
+     * @param phase The phase.
+     * @return The {@link System#nanoTime()} at which it first started, or 0 should it not have run.
+     */
+    public long getPhaseStart(int age, Phase phase) {
+        return phaseStarts[indexOf(age) * PHASES + phase.ordinal()];
+    }
+
+    /**
+     * Gets the time spent in a phase of a kept sample.
+     * @param age The age of the sample, 0 being the oldest kept.
+     * @param phase The phase.
+     * @return The time, in nanoseconds.
+     */
+    public long getPhaseDuration(int age, Phase phase) {
+        return phaseDurations[indexOf(age) * PHASES + phase.ordinal()];
+    }
+
+    /**
+     * Gets the bytes allocated in a kept sample.
+     * @param age The age of the sample, 0 being the oldest kept.
+     * @return The bytes, or 0 should allocations not be counted.
+     */
+    public long getSampleAllocations(int age) {
+        return sampleAllocations[indexOf(age)];
+    }
+
+    /**
+     * Gets the bytes allocated in a phase of a kept sample.
+     * @param age The age of the sample, 0 being the oldest kept.
+     * @param phase The phase.
+     * @return The bytes, or 0 should allocations not be counted.
+     */
+    public long getPhaseAllocations(int age, Phase phase) {
+        return phaseAllocations[indexOf(age) * PHASES + phase.ordinal()];
+    }
+
+    /**
+     * Gets the length that a given fraction of the kept samples are at or under.
+     * @param fraction The fraction, between 0 and 1.
+     * @return The length, in nanoseconds, or 0 should no samples be kept.
+     */
+    public long percentile(double fraction) {
+        return percentile(sampleDurations, 1, 0, fraction);
+    }
+
+    /**
+     * Gets the time in a phase that a given fraction of the kept samples are at or under.
+     * @param phase The phase.
+     * @param fraction The fraction, between 0 and 1.
+     * @return The time, in nanoseconds, or 0 should no samples be kept.
+     */
+    public long percentile(Phase phase, double fraction) {
+        return percentile(phaseDurations, PHASES, phase.ordinal(), fraction);
+    }
+
+    /**
+     * Gets the bytes allocated that a given fraction of the kept samples are at or under.
+     * @param fraction The fraction, between 0 and 1.
+     * @return The bytes, or 0 should no samples be kept or allocations not be counted.
+     */
+    public long allocationPercentile(double fraction) {
+        return percentile(sampleAllocations, 1, 0, fraction);
+    }
+
+    /**
+     * Gets the bytes allocated in a phase that a given fraction of the kept samples are at or under.
+     * @param phase The phase.
+     * @param fraction The fraction, between 0 and 1.
+     * @return The bytes, or 0 should no samples be kept or allocations not be counted.
+     */
+    public long allocationPercentile(Phase phase, double fraction) {
+        return percentile(phaseAllocations, PHASES, phase.ordinal(), fraction);
+    }
+
+    /**
+     * Copies a value of each kept sample into the {@link Timeline#scratch}, sorts them, and picks a percentile of
+     * them.
+     * @param values The values of every sample in the ring.
+     * @param stride The number of values each sample has.
+     * @param offset The index of the value within those of a sample.
+     * @param fraction The fraction, between 0 and 1.
+     */
+    private long percentile(long[] values, int stride, int offset, double fraction) {
+        if (size == 0) {
+            return 0;
+        }
+        for (int age = 0; age < size; age++) {
+            scratch[age] = values[indexOf(age) * stride + offset];
+        }
+        Arrays.sort(scratch, 0, size);
+        val index = (int) Math.ceil(size * fraction) - 1;
+        return scratch[Math.max(0, Math.min(size - 1, index))];
+    }
+
+    /**
+     * Summarizes the kept samples, and each phase that has run in them, by their 50th, 95th, and 99th percentiles
+     * and their maximum, in milliseconds, followed by the bytes allocated in the same way should they be counted.
+     * @return The summary.
+     */
+    public String getReport() {
+        val report = new StringBuilder(name).append(" (n=").append(size).append("): total ");
+        appendPercentiles(report, percentile(0.5), percentile(0.95), percentile(0.99), percentile(1));
+        for (val phase : Phase.VALUES) {
+            val max = percentile(phase, 1);
+            if (max == 0) {
+                continue;
+            }
+            report.append("; ").append(phase.getLabel()).append(' ');
+            appendPercentiles(report, percentile(phase, 0.5), percentile(phase, 0.95), percentile(phase, 0.99), max);
+        }
+        if (countingAllocations) {
+            report.append("; allocated bytes: total ").append(allocationPercentile(0.5)).append('/')
+                    .append(allocationPercentile(0.99)).append('/').append(allocationPercentile(1));
+            for (val phase : Phase.VALUES) {
+                val max = allocationPercentile(phase, 1);
+                if (max != 0) {
+                    report.append("; ").append(phase.getLabel()).append(' ').append(allocationPercentile(phase, 0.5))
+                            .append('/').append(allocationPercentile(phase, 0.99)).append('/').append(max);
+                }
+            }
+            report.append(" (p50/p99/max)");
+        }
+        return report.toString();
+    }
+
+    private static void appendPercentiles(StringBuilder report, long p50, long p95, long p99, long max) {
+        report.append(String.format("p50=%.2f p95=%.2f p99=%.2f max=%.2f",
+                p50 / 1_000_000d, p95 / 1_000_000d, p99 / 1_000_000d, max / 1_000_000d));
+    }
+
+    /**
+     * Forgets every kept sample, along with the open one.
+     */
+    public void reset() {
+        clearOpen();
+        next = 0;
+        size = 0;
+    }
+
+    /**
+     * Forgets the open sample, leaving the next one to start from nothing.
+     */
+    private void clearOpen() {
+        Arrays.fill(openStarts, 0);
+        Arrays.fill(openDurations, 0);
+        Arrays.fill(openAllocations, 0);
+        openStart = 0;
+        openAllocated = -1;
+    }
+}
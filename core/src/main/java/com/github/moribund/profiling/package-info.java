@@ -0,0 +1,5 @@
+/**
+ * Classes that time each phase of a frame and of a tick into rings of recent samples, summarize them, draw them over
+ * the game, and export them as traces.
+ */
+package com.github.moribund.profiling;
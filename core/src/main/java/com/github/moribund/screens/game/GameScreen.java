@@ -9,10 +9,20 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector3;
 import com.github.moribund.MoribundClient;
 import com.github.moribund.graphics.drawables.DrawableGameAsset;
+import com.github.moribund.graphics.fonts.FontFile;
+import com.github.moribund.graphics.hud.HudLayer;
 import com.github.moribund.graphics.sprites.SpriteContainer;
 import com.github.moribund.graphics.sprites.SpriteFile;
-import com.github.moribund.objects.attributes.Flaggable;
+import com.github.moribund.net.impairment.SmoothnessMonitor;
+import com.github.moribund.objects.entities.RenderState;
+import com.github.moribund.objects.nonplayable.projectile.ProjectilePool;
 import com.github.moribund.objects.playable.players.PlayableCharacter;
+import com.github.moribund.profiling.FrameProfiler;
+import com.github.moribund.profiling.Phase;
+import com.github.moribund.profiling.ProfilerOverlay;
+import com.github.moribund.simulation.FrameClock;
+import com.github.moribund.simulation.PipelineStatistics;
+import com.github.moribund.simulation.Simulation;
 import com.github.moribund.utils.GLUtils;
 import lombok.val;
 
@@ -21,6 +31,18 @@ import lombok.val;
  */
 class GameScreen implements Screen {
 
+    /**
+     * How far outside of the camera's view an entity's position can be while still being drawn. This is larger
+     * than the largest sprite so that rotated sprites are never culled while partially visible.
+     */
+    private static final float CULL_MARGIN = 200;
+
+    /**
+     * The longest a single frame is counted as, in seconds. A frame that takes longer, such as one where the window
+     * was being dragged, only runs this many seconds of ticks rather than trying to catch up all at once.
+     */
+    private static final float MAX_FRAME_TIME = 0.25f;
+
     private final Batch uiBatch;
     /**
      * The sprite batch to display sprites.
@@ -34,6 +56,17 @@ class GameScreen implements Screen {
      * The sprite that represents the background image.
      */
     private final Sprite background;
+    /**
+     * The graph of the recent frames, which is put into the {@link HudLayer#OVERLAY} of the HUD, or null should the
+     * {@link FrameProfiler} not be enabled.
+     */
+    private final ProfilerOverlay profilerOverlay;
+
+    /**
+     * The time, in seconds, that has passed but has not yet been simulated by a tick, when the {@link Simulation} is
+     * stepped on this thread.
+     */
+    private float accumulator;
 
     /**
      * The previous screen X coordinate registered.
@@ -45,6 +78,11 @@ class GameScreen implements Screen {
      */
     private int previousY;
 
+    /**
+     * The location of the mouse, which is unprojected into world space in place every time the mouse moves.
+     */
+    private final Vector3 mouseLocation = new Vector3();
+
     /**
      * Constructor that provides the {@code GameScreen} its dependencies.
      * @param uiBatch The sprite batch to display the UI on.
@@ -56,6 +94,7 @@ class GameScreen implements Screen {
         this.gameBatch = gameSpritebatch;
         this.camera = camera;
         this.background = background;
+        profilerOverlay = FrameProfiler.getInstance().isEnabled() ? new ProfilerOverlay(FontFile.CODE_BOLD_2) : null;
     }
 
     /**
@@ -64,36 +103,82 @@ class GameScreen implements Screen {
      */
     @Override
     public void show() {
+        if (profilerOverlay != null) {
+            MoribundClient.getInstance().getHud().add(HudLayer.OVERLAY, profilerOverlay);
+        }
     }
 
     /**
-     * Renders the {@link Screen} by clearing the GL and drawing the sprites.
-     * Essentially, this is the heart of the game's {@link com.badlogic.gdx.graphics.g2d.Sprite}s.
+     * Renders the {@link Screen} by bringing the {@link RenderState} up to date, then clearing the GL and drawing
+     * the sprites between the last two ticks. Bringing it up to date means stepping the {@link Simulation} by as many
+     * fixed ticks of the world as the time since the last render calls for.
+     * Essentially, this is the heart of the game's {@link com.badlogic.gdx.graphics.g2d.Sprite}s. Each phase of the
+     * frame is timed by the {@link FrameProfiler}.
      *
-     * @param delta As of now, unclassified usage.
+     * @param delta The time in seconds since the last render, which is recorded by the {@link SmoothnessMonitor}
+     *              and the {@link PipelineStatistics}.
      */
     @Override
     public void render(float delta) {
-        processFlags();
+        val clock = FrameClock.getInstance();
+        clock.beginFrame();
+        val start = clock.getFrameTime();
+        val frames = FrameProfiler.getInstance().getFrames();
+        frames.beginSample();
+        SmoothnessMonitor.getInstance().recordFrame(delta);
+        PipelineStatistics.getInstance().recordFrame(delta);
+        val renderState = MoribundClient.getInstance().getEntityStore().getRenderState();
+        frames.begin(Phase.SIMULATE);
+        simulate(delta);
+        frames.end(Phase.SIMULATE);
+        frames.begin(Phase.ACQUIRE);
+        renderState.acquire();
+        frames.end(Phase.ACQUIRE);
+        renderState.setInterpolation(accumulator / MoribundClient.SECONDS_PER_TICK);
+
         GLUtils.clearGL();
-        drawGameSpriteBatch(this::drawBackground, this::drawVisibleEntities);
-        drawUISpriteBatch(this::drawUI);
+        frames.begin(Phase.CAMERA);
         cameraFollowPlayer();
+        frames.end(Phase.CAMERA);
+        frames.begin(Phase.CULL);
+        cullEntities();
+        frames.end(Phase.CULL);
+        frames.begin(Phase.DRAW_GAME);
+        drawGameSpriteBatch(this::drawBackground, this::drawVisibleEntities);
+        frames.end(Phase.DRAW_GAME);
+        PipelineStatistics.getInstance().recordInputLatency(renderState.takeInputTime());
+        frames.begin(Phase.DRAW_UI);
+        MoribundClient.getInstance().getHud().draw(uiBatch);
+        frames.end(Phase.DRAW_UI);
+        frames.begin(Phase.INPUT);
         playerFollowMouse();
+        frames.end(Phase.INPUT);
+        frames.endSample();
+        PipelineStatistics.getInstance().recordRender(System.nanoTime() - start);
+    }
 
-        val player = MoribundClient.getInstance().getPlayer();
-        if (player != null) {
-            player.updateRotation();
-            player.updateLocation();
+    /**
+     * Steps the {@link Simulation} on this thread by as many fixed ticks as the time since the last render calls
+     * for, then publishes the world to be drawn.
+     * @param delta The time in seconds since the last render.
+     */
+    private void simulate(float delta) {
+        val simulation = Simulation.getInstance();
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+        while (accumulator >= MoribundClient.SECONDS_PER_TICK) {
+            simulation.tick();
+            accumulator -= MoribundClient.SECONDS_PER_TICK;
         }
+        simulation.publish();
     }
 
     /**
      * Makes the player face the location of the mouse, with the mouse's location given in world space coordinates.
-     * The {@link PlayableCharacter#faceLocation(Vector3)} method is only called if the mouse cursor is on a unique
-     * location since the last render.
+     * The {@link PlayableCharacter#faceLocation(float, float)} method is only called if the mouse cursor is on a
+     * unique location since the last render. The coordinates are handed to the simulation by value, as the
+     * {@link GameScreen#mouseLocation} is reused by the next move.
      * @see Camera#unproject(Vector3)
-     * @see PlayableCharacter#faceLocation(Vector3)
+     * @see PlayableCharacter#faceLocation(float, float)
      */
     private void playerFollowMouse() {
         PlayableCharacter player = MoribundClient.getInstance().getPlayer();
@@ -102,18 +187,16 @@ class GameScreen implements Screen {
                 return;
             }
 
-            Vector3 mouseLocation = camera.unproject(new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0));
-            player.faceLocation(mouseLocation);
+            camera.unproject(mouseLocation.set(Gdx.input.getX(), Gdx.input.getY(), 0));
+            val mouseX = mouseLocation.x;
+            val mouseY = mouseLocation.y;
+            Simulation.getInstance().applyInput(() -> player.faceLocation(mouseX, mouseY));
 
             previousX = Gdx.input.getX();
             previousY = Gdx.input.getY();
         }
     }
 
-    private void drawUI() {
-        MoribundClient.getInstance().getDrawableUIAssets().forEach(drawable -> drawable.draw(uiBatch));
-    }
-
     /**
      * Draws the {@link SpriteFile#BACKGROUND} {@link Sprite}.
      */
@@ -122,25 +205,26 @@ class GameScreen implements Screen {
     }
 
     /**
-     * Follows the player using the {@link GameScreen#getCameraPositionX(PlayableCharacter)} and
-     * {@link GameScreen#getCameraPositionY(PlayableCharacter)} coordinates. The camera follows the player
+     * Follows the player, as drawn this frame, using the {@link GameScreen#getCameraPositionX(float)} and
+     * {@link GameScreen#getCameraPositionY(float)} coordinates. The camera follows the player
      * until they are at an extreme coordinate in the map, to which the camera is static over that area.
      */
     private void cameraFollowPlayer() {
         val player = MoribundClient.getInstance().getPlayer();
         if (player != null) {
-            camera.position.set(getCameraPositionX(player), getCameraPositionY(player), 0);
+            val renderState = MoribundClient.getInstance().getEntityStore().getRenderState();
+            camera.position.set(getCameraPositionX(renderState.getInterpolatedX(player.getSlot())),
+                    getCameraPositionY(renderState.getInterpolatedY(player.getSlot())), 0);
             camera.update();
         }
     }
 
     /**
      * Gets the optimal x-position for the camera given the {@link GameScreen#background} and {@link MoribundClient#player}.
-     * @param player The {@link MoribundClient#player}.
+     * @param playerX The x-coordinate of the {@link MoribundClient#player}.
      * @return The optimal x-position for the camera.
      */
-    private float getCameraPositionX(PlayableCharacter player) {
-        val playerX = player.getX();
+    private float getCameraPositionX(float playerX) {
         val balancingConstant = 500;
         val furthestLeftBound = -(background.getWidth() / 2) + balancingConstant;
         val furthestRightBound = background.getWidth() / 2 - balancingConstant;
@@ -155,11 +239,10 @@ class GameScreen implements Screen {
 
     /**
      * Gets the optimal y-position for the camera given the {@link GameScreen#background} and {@link MoribundClient#player}.
-     * @param player The {@link MoribundClient#player}.
+     * @param playerY The y-coordinate of the {@link MoribundClient#player}.
      * @return The optimal y-position for the camera.
      */
-    private float getCameraPositionY(PlayableCharacter player) {
-        val playerY = player.getY();
+    private float getCameraPositionY(float playerY) {
         val balancingConstant = 350;
         val furthestLowerBound = -(background.getHeight() / 2) + balancingConstant;
         val furthestUpperBound = background.getHeight() / 2 - balancingConstant;
@@ -173,18 +256,30 @@ class GameScreen implements Screen {
     }
 
     /**
-     * Draws all the {@link DrawableGameAsset}'s
-     * {@link com.badlogic.gdx.graphics.g2d.Sprite}s.
+     * Marks which entities in the {@link RenderState} are within the view of the camera, so that the ones outside
+     * of it are not drawn.
+     */
+    private void cullEntities() {
+        val halfWidth = camera.viewportWidth / 2 + CULL_MARGIN;
+        val halfHeight = camera.viewportHeight / 2 + CULL_MARGIN;
+        MoribundClient.getInstance().getEntityStore().getRenderState().cull(camera.position.x - halfWidth, camera.position.y - halfHeight,
+                camera.position.x + halfWidth, camera.position.y + halfHeight);
+    }
+
+    /**
+     * Draws all the ground items, then all the {@link DrawableGameAsset}'s
+     * {@link com.badlogic.gdx.graphics.g2d.Sprite}s on top of them, as of the tick in the {@link RenderState}.
      */
     private void drawVisibleEntities() {
-        MoribundClient.getInstance().getDrawableGameAssets().forEach(drawable -> drawable.draw(gameBatch));
+        MoribundClient.getInstance().getEntityStore().getRenderState().draw(gameBatch);
     }
 
     /**
-     * Processes all flaggables.
+     * Applies the entity additions and removals recorded since the last flush, which is only done here once the
+     * {@link Simulation} has stopped.
      */
-    private void processFlags() {
-        MoribundClient.getInstance().getFlaggables().forEach(Flaggable::processFlags);
+    private void flushEntityCommands() {
+        MoribundClient.getInstance().getEntityCommands().flush();
     }
 
     /**
@@ -206,12 +301,6 @@ class GameScreen implements Screen {
         gameBatch.end();
     }
 
-    private void drawUISpriteBatch(Runnable drawing) {
-        uiBatch.begin();
-        drawing.run();
-        uiBatch.end();
-    }
-
     @Override
     public void resize(int width, int height) {
 
@@ -232,14 +321,36 @@ class GameScreen implements Screen {
 
     }
 
+    /**
+     * Gives every projectile still in the world back to its {@link ProjectilePool} so that the pools start the next
+     * game with them free.
+     */
+    private void releaseProjectiles() {
+        val projectiles = MoribundClient.getInstance().getProjectiles();
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectiles.get(i).removeProjectile();
+        }
+    }
+
     @Override
     public void dispose() {
         uiBatch.dispose();
         gameBatch.dispose();
-
-        MoribundClient.getInstance().getFlaggables().clear();
+        SmoothnessMonitor.getInstance().logReport();
+        PipelineStatistics.getInstance().logReport();
+        FrameProfiler.getInstance().logReport();
+        ProjectilePool.logReports();
+
+        releaseProjectiles();
+        flushEntityCommands();
+        Simulation.getInstance().getTimers().clear();
+        MoribundClient.getInstance().getEntityCommands().clear();
+        MoribundClient.getInstance().getWorld().clear();
         MoribundClient.getInstance().getPlayers().clear();
-        MoribundClient.getInstance().getDrawableGameAssets().clear();
-        MoribundClient.getInstance().getDrawableUIAssets().clear();
+        MoribundClient.getInstance().getGroundItemsById().clear();
+        MoribundClient.getInstance().getGroundItemGrid().clear();
+        MoribundClient.getInstance().getHud().clear();
+        MoribundClient.getInstance().getEntityStore().clear();
+        MoribundClient.getInstance().getCollisionGrid().clear();
     }
 }
\ No newline at end of file
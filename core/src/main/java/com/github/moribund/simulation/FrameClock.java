@@ -0,0 +1,60 @@
+package com.github.moribund.simulation;
+
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * The {@code FrameClock} is the time that gameplay code reads, in place of asking the system for the time itself.
+ * The frame time is sampled from {@link System#nanoTime()} once at the start of every frame by the game screen, for
+ * anything the render thread draws over time. The tick is counted by the {@link Simulation} at the start of every
+ * tick; anything that happens in the world after a length of time, such as a projectile expiring, is scheduled in
+ * ticks on the {@link TimerWheel}, so that it is exact to the tick and does not drift with the frame rate.
+ * <p>
+ * Both are monotonic, so they are never thrown off by the wall clock being changed, and reading either allocates
+ * nothing. The frame time is only to be read on the render thread, and the tick only by the simulation.
+ */
+public final class FrameClock {
+
+    /**
+     * The singleton instance of the clock.
+     */
+    @Getter
+    private static final FrameClock instance = new FrameClock();
+
+    /**
+     * The {@link System#nanoTime()} at the start of the current frame.
+     */
+    @Getter
+    private long frameTime;
+
+    /**
+     * The time, in seconds, from the start of the previous frame to the start of the current one.
+     */
+    @Getter
+    private float frameDelta;
+
+    /**
+     * The number of ticks the simulation has started, including the one currently running.
+     */
+    @Getter
+    private long tick;
+
+    private FrameClock() {
+    }
+
+    /**
+     * Samples the time at the start of a frame, which the rest of the frame then reads.
+     */
+    public void beginFrame() {
+        val now = System.nanoTime();
+        frameDelta = frameTime == 0 ? 0 : (now - frameTime) / 1_000_000_000f;
+        frameTime = now;
+    }
+
+    /**
+     * Counts the start of a tick.
+     */
+    void beginTick() {
+        tick++;
+    }
+}
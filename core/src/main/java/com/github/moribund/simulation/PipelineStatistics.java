@@ -0,0 +1,127 @@
+package com.github.moribund.simulation;
+
+import com.github.moribund.utils.Histogram;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.java.Log;
+
+/**
+ * The {@code PipelineStatistics} measures how long the game takes to show what has happened, as the baseline that
+ * any change to how the {@link Simulation} is stepped is to be compared with. It collects the time between frames, the time the render thread spends on a frame, the time a tick takes, and the time
+ * from an input of the user to the first frame that draws it. It does nothing unless the
+ * {@code moribund.pipelineStatistics} system property is set to {@code true}.
+ */
+@Log
+public final class PipelineStatistics {
+
+    /**
+     * The singleton instance of the statistics.
+     */
+    @Getter
+    private static final PipelineStatistics instance = new PipelineStatistics();
+
+    /**
+     * The system property that enables collecting.
+     */
+    private static final String ENABLED_PROPERTY = "moribund.pipelineStatistics";
+
+    /**
+     * If samples are being collected.
+     */
+    @Getter @Setter
+    private volatile boolean enabled;
+
+    /**
+     * The times between frames, in milliseconds.
+     */
+    private final Histogram frameIntervals = new Histogram(1000);
+
+    /**
+     * The times the render thread spent on each frame, in microseconds.
+     */
+    private final Histogram renderTimes = new Histogram(20000);
+
+    /**
+     * The times each tick took, in microseconds.
+     */
+    private final Histogram tickTimes = new Histogram(20000);
+
+    /**
+     * The times from an input to the frame that first drew it, in milliseconds.
+     */
+    private final Histogram inputLatencies = new Histogram(1000);
+
+    private PipelineStatistics() {
+        enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Records the time since the previous frame.
+     * @param delta The time, in seconds, as given to {@link com.badlogic.gdx.Screen#render(float)}.
+     */
+    public void recordFrame(float delta) {
+        if (enabled) {
+            frameIntervals.record(delta * 1000f);
+        }
+    }
+
+    /**
+     * Records the time the render thread spent on a frame.
+     * @param nanos The time, in nanoseconds.
+     */
+    public void recordRender(long nanos) {
+        if (enabled) {
+            renderTimes.record(nanos / 1000f);
+        }
+    }
+
+    /**
+     * Records the time a tick took.
+     * @param nanos The time, in nanoseconds.
+     */
+    public void recordTick(long nanos) {
+        if (enabled) {
+            tickTimes.record(nanos / 1000f);
+        }
+    }
+
+    /**
+     * Records the time from an input to now, which is just after the first frame that draws it has been submitted.
+     * @param inputTime The {@link System#nanoTime()} of the input, or 0 should no input have been drawn.
+     */
+    public void recordInputLatency(long inputTime) {
+        if (enabled && inputTime != 0) {
+            inputLatencies.record((System.nanoTime() - inputTime) / 1_000_000f);
+        }
+    }
+
+    /**
+     * Clears all the samples collected so far.
+     */
+    public synchronized void reset() {
+        frameIntervals.reset();
+        renderTimes.reset();
+        tickTimes.reset();
+        inputLatencies.reset();
+    }
+
+    /**
+     * Summarizes the samples collected so far.
+     * @return The summary of every measurement.
+     */
+    public synchronized String getReport() {
+        return "frame interval (ms) " + frameIntervals + "; render (us) " + renderTimes
+                + "; tick (us) " + tickTimes + "; input latency (ms) " + inputLatencies;
+    }
+
+    /**
+     * Logs the summary of the samples collected so far and starts collecting anew, which is done at the end of
+     * every match.
+     */
+    public synchronized void logReport() {
+        if (enabled) {
+            log.info("Pipeline: " + getReport());
+            reset();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.moribund.simulation;
+
+import com.badlogic.gdx.Gdx;
+import com.github.moribund.MoribundClient;
+import com.github.moribund.objects.entities.RenderState;
+import com.github.moribund.objects.flags.FlagProcessor;
+import com.github.moribund.profiling.FrameProfiler;
+import com.github.moribund.profiling.Phase;
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * The {@code Simulation} steps the world in fixed ticks of {@link MoribundClient#SECONDS_PER_TICK}: flags, movement,
+ * collisions, and the changes the server sends. At the end of each step, the world is published to the
+ * {@link RenderState}, which is all the render thread draws from.
+ * <p>
+ * The simulation is stepped by the {@link com.github.moribund.screens.game.GameScreen} on the render thread, as many
+ * times a frame as the frame's length calls for. Moving it onto a thread of its own has not been done: the
+ * {@link PipelineStatistics} measure the frame times and input latency of the single thread, but no run has yet
+ * shown what a second thread would gain. Anything that changes the world is still to be handed to
+ * {@link Simulation#post(Runnable)} rather than done on whichever thread it came in on.
+ */
+public final class Simulation {
+
+    /**
+     * The singleton instance of the simulation.
+     */
+    @Getter
+    private static final Simulation instance = new Simulation();
+
+    /**
+     * The timers of the world, which advance by one at every tick.
+     */
+    @Getter
+    private final TimerWheel timers;
+
+    /**
+     * The {@link System#nanoTime()} of the oldest input that has been applied since the last publish, or 0 should
+     * there be none.
+     */
+    private long inputTime;
+
+    private Simulation() {
+        timers = new TimerWheel();
+    }
+
+    /**
+     * Hands a change of the world to the simulation, to be applied on the render thread before its next frame. This
+     * is safe to call from any thread.
+     * @param change The change to the world.
+     */
+    public void post(Runnable change) {
+        Gdx.app.postRunnable(FrameProfiler.getInstance().timePackets(change));
+    }
+
+    /**
+     * Applies an input of the user to the world, timing how long it takes for it to be drawn.
+     * @param input The change to the world the input makes.
+     * @see PipelineStatistics#recordInputLatency(long)
+     */
+    public void applyInput(Runnable input) {
+        val time = System.nanoTime();
+        input.run();
+        if (inputTime == 0) {
+            inputTime = time;
+        }
+    }
+
+    /**
+     * Steps the world by a single fixed tick. Movement, collisions, and timers all happen here, so the game runs at
+     * the same speed no matter the frame rate. Each phase of the tick is timed by the {@link FrameProfiler}.
+     * <p>
+     * The projectiles are processed last, after every other flaggable has moved and the collision grid has been
+     * brought up to date, so that a projectile never looks for a player in the cells it was in the tick before.
+     */
+    public void tick() {
+        val start = System.nanoTime();
+        val ticks = FrameProfiler.getInstance().getTicks();
+        ticks.beginSample();
+        FrameClock.getInstance().beginTick();
+        val client = MoribundClient.getInstance();
+        client.getEntityStore().snapshot();
+        client.getEntityCommands().flush();
+        ticks.begin(Phase.FLAGS);
+        FlagProcessor.processAll(client.getFlaggables(), client.getEntityStore());
+        ticks.end(Phase.FLAGS);
+        ticks.begin(Phase.COLLISION_GRID);
+        updateCollisionGrid();
+        ticks.end(Phase.COLLISION_GRID);
+        ticks.begin(Phase.FLAGS);
+        FlagProcessor.processAll(client.getProjectiles(), client.getEntityStore());
+        ticks.end(Phase.FLAGS);
+        ticks.begin(Phase.TIMERS);
+        timers.advance();
+        ticks.end(Phase.TIMERS);
+        client.getEntityCommands().flush();
+
+        val player = client.getPlayer();
+        if (player != null) {
+            ticks.begin(Phase.SEND);
+            player.updateRotation();
+            player.updateLocation();
+            ticks.end(Phase.SEND);
+        }
+        ticks.endSample();
+        PipelineStatistics.getInstance().recordTick(System.nanoTime() - start);
+    }
+
+    /**
+     * Applies the entity additions and removals that are still recorded, then copies the world into the
+     * {@link RenderState} for the render thread to draw.
+     */
+    public void publish() {
+        val client = MoribundClient.getInstance();
+        client.getEntityCommands().flush();
+        client.getEntityStore().getRenderState().publish(client.getEntityStore(), client.getGroundItems(),
+                client.getDrawableGameAssets(), inputTime);
+        inputTime = 0;
+    }
+
+    /**
+     * Moves every {@link com.github.moribund.objects.attributes.Collidable} into the cells of the
+     * {@link MoribundClient#getCollisionGrid()} that it now overlaps. Those that have stayed within the same cells
+     * are left alone by the grid.
+     */
+    private void updateCollisionGrid() {
+        val client = MoribundClient.getInstance();
+        val collisionGrid = client.getCollisionGrid();
+        val collidables = client.getCollidables();
+        for (int i = 0; i < collidables.size(); i++) {
+            val collidable = collidables.get(i);
+            collisionGrid.update(collidable, collidable.getHitbox());
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.github.moribund.simulation;
+
+import lombok.val;
+
+/**
+ * The {@code TimerWheel} runs tasks a number of ticks of the {@link Simulation} from when they are scheduled. A
+ * scheduled {@link Timer} costs nothing until it fires: the wheel does not look at every timer every tick, only at
+ * the one bucket whose turn it is, so a tick with hundreds of projectiles in the air costs the same as one with
+ * none.
+ * <p>
+ * The wheel is hierarchical. The first level has a bucket for each of the next {@link TimerWheel#SLOTS} ticks, and
+ * each level above it has buckets {@link TimerWheel#SLOTS} times as long as the one below. A timer is put into the
+ * lowest level whose range reaches its deadline, and each time a bucket of a higher level comes round, its timers are
+ * moved down into the level below, until they reach the first level and fire. Scheduling and cancelling are
+ * constant time, and a timer is moved at most once per level.
+ * <p>
+ * The wheel is only to be touched by the simulation.
+ */
+public final class TimerWheel {
+
+    /**
+     * The number of bits of a tick each level covers.
+     */
+    private static final int SLOT_BITS = 6;
+
+    /**
+     * The number of buckets in each level.
+     */
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    /**
+     * The mask of the bucket within a level.
+     */
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    /**
+     * The number of levels, which at 60 ticks a second reaches over three days ahead. A timer further ahead than
+     * that is put into the last level and moved around it until it is in range.
+     */
+    private static final int LEVELS = 4;
+
+    /**
+     * The first timer of each bucket of each level, each bucket being a doubly linked list through its timers.
+     */
+    private final Timer[][] buckets = new Timer[LEVELS][SLOTS];
+
+    /**
+     * The number of ticks the wheel has advanced.
+     */
+    private long now;
+
+    /**
+     * Schedules a timer to fire a number of ticks from now, moving it should it already be scheduled.
+     * @param timer The timer to schedule.
+     * @param ticks The number of ticks from now for the timer to fire at. A timer of fewer than one tick fires on
+     *              the next tick.
+     */
+    public void schedule(Timer timer, int ticks) {
+        if (timer.scheduled) {
+            unlink(timer);
+        }
+        timer.deadline = now + Math.max(ticks, 1);
+        insert(timer);
+    }
+
+    /**
+     * Schedules a task to run once a number of ticks from now.
+     * @param ticks The number of ticks from now for the task to run at.
+     * @param task The task to run.
+     * @return The timer of the task, with which it can be {@link TimerWheel#cancel cancelled}.
+     */
+    public Timer schedule(int ticks, Runnable task) {
+        val timer = new Timer(task);
+        schedule(timer, ticks);
+        return timer;
+    }
+
+    /**
+     * Cancels a timer so that it does not fire. Cancelling a timer that is not scheduled does nothing.
+     * @param timer The timer to cancel.
+     */
+    public void cancel(Timer timer) {
+        if (timer.scheduled) {
+            unlink(timer);
+        }
+    }
+
+    /**
+     * Advances the wheel by a tick, moving down the timers of any higher bucket that has come round and firing the
+     * timers that are due. This is done once at every tick of the simulation.
+     */
+    public void advance() {
+        now++;
+        for (int level = 1; level < LEVELS; level++) {
+            // a higher level only turns once the level below it has gone all the way round
+            if (((now >>> (SLOT_BITS * (level - 1))) & SLOT_MASK) != 0) {
+                break;
+            }
+            cascade(level, (int) (now >>> (SLOT_BITS * level)) & SLOT_MASK);
+        }
+
+        val bucket = buckets[0];
+        val slot = (int) now & SLOT_MASK;
+        Timer timer;
+        // the task of a timer can schedule and cancel others, so timers are taken off one at a time
+        while ((timer = bucket[slot]) != null) {
+            unlink(timer);
+            timer.task.run();
+        }
+    }
+
+    /**
+     * Cancels every timer, as is done when a game ends.
+     */
+    public void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timer timer;
+                while ((timer = buckets[level][slot]) != null) {
+                    unlink(timer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves every timer of a bucket into the level below, now that the bucket has come round.
+     * @param level The level of the bucket.
+     * @param slot The bucket within the level.
+     */
+    private void cascade(int level, int slot) {
+        Timer timer;
+        while ((timer = buckets[level][slot]) != null) {
+            unlink(timer);
+            insert(timer);
+        }
+    }
+
+    /**
+     * Puts a timer into the bucket of its deadline, in the lowest level that reaches it.
+     * @param timer The timer, which is not in any bucket.
+     */
+    private void insert(Timer timer) {
+        val delta = timer.deadline - now;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        final int slot;
+        if (delta >= 1L << (SLOT_BITS * LEVELS)) {
+            // too far ahead to be placed, so it comes round again at the furthest bucket and is placed from there
+            slot = (int) ((now >>> (SLOT_BITS * level)) - 1) & SLOT_MASK;
+        } else {
+            slot = (int) (timer.deadline >>> (SLOT_BITS * level)) & SLOT_MASK;
+        }
+        val head = buckets[level][slot];
+        timer.level = level;
+        timer.slot = slot;
+        timer.previous = null;
+        timer.next = head;
+        if (head != null) {
+            head.previous = timer;
+        }
+        buckets[level][slot] = timer;
+        timer.scheduled = true;
+    }
+
+    /**
+     * Takes a timer out of its bucket.
+     * @param timer The timer, which is in a bucket.
+     */
+    private void unlink(Timer timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            buckets[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.scheduled = false;
+    }
+
+    /**
+     * A task that the {@link TimerWheel} runs at a tick. A timer can be scheduled again once it has fired or been
+     * cancelled, so something that is reused, such as a pooled entity, can keep a single timer for its whole life.
+     */
+    public static final class Timer {
+
+        /**
+         * What is run when the timer fires.
+         */
+        private final Runnable task;
+
+        /**
+         * The tick of the wheel that the timer fires at.
+         */
+        private long deadline;
+
+        /**
+         * The level of the bucket the timer is in.
+         */
+        private int level;
+
+        /**
+         * The bucket of the level the timer is in.
+         */
+        private int slot;
+
+        /**
+         * The timer before this one in its bucket.
+         */
+        private Timer previous;
+
+        /**
+         * The timer after this one in its bucket.
+         */
+        private Timer next;
+
+        /**
+         * If the timer is in a bucket of the wheel.
+         */
+        private boolean scheduled;
+
+        /**
+         * Makes a timer that is not yet scheduled.
+         * @param task What is run when the timer fires.
+         */
+        public Timer(Runnable task) {
+            this.task = task;
+        }
+
+        /**
+         * Checks if the timer is waiting to fire.
+         * @return If the timer is scheduled.
+         */
+        public boolean isScheduled() {
+            return scheduled;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Classes that step the world in fixed ticks on the render thread, keep the time that gameplay code reads, and
+ * measure how long the game takes to show what has happened.
+ */
+package com.github.moribund.simulation;
@@ -19,6 +19,8 @@ public class GLUtils {
     private final Texture greenTexture = new Texture(GLUtils.createProceduralPixmap(1, 1, 0, 1, 0));
     @Getter(lazy = true)
     private final Texture redTexture = new Texture(GLUtils.createProceduralPixmap(1, 1, 1, 0, 0));
+    @Getter(lazy = true)
+    private final Texture whiteTexture = new Texture(GLUtils.createProceduralPixmap(1, 1, 1, 1, 1));
 
     /**
      * Clears the GL without revealing all the magical stuff behind-the-scenes.
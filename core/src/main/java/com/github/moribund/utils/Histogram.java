@@ -0,0 +1,65 @@
+package com.github.moribund.utils;
+
+import lombok.val;
+
+import java.util.Arrays;
+
+/**
+ * A {@code Histogram} with unit-wide buckets, which is precise enough for milliseconds, microseconds, and pixels.
+ * Values past the last bucket are counted in it. It is safe to record into from one thread while another reports.
+ */
+public final class Histogram {
+    private final long[] buckets;
+    private long count;
+    private double sum;
+    private float max;
+
+    /**
+     * Makes an empty histogram.
+     * @param bucketCount The amount of buckets, which is one past the largest value that is kept precisely.
+     */
+    public Histogram(int bucketCount) {
+        buckets = new long[bucketCount];
+    }
+
+    public synchronized void record(float value) {
+        val bucket = Math.min(buckets.length - 1, Math.max(0, (int) value));
+        buckets[bucket]++;
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    /**
+     * Gets the value that a given fraction of the samples are at or below.
+     * @param percentile The fraction, between 0 and 1.
+     * @return The bucket of the percentile.
+     */
+    public synchronized int percentile(double percentile) {
+        val target = (long) Math.ceil(count * percentile);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= target) {
+                return i;
+            }
+        }
+        return buckets.length - 1;
+    }
+
+    @Override
+    public synchronized String toString() {
+        if (count == 0) {
+            return "n=0";
+        }
+        return String.format("n=%d mean=%.2f p50=%d p95=%d p99=%d max=%.2f",
+                count, sum / count, percentile(0.5), percentile(0.95), percentile(0.99), max);
+    }
+}
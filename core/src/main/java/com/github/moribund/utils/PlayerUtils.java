@@ -47,7 +47,7 @@ public class PlayerUtils {
 
     /**
      * Makes a new player and sets their coordinates for rendering them. This method adds the player to the
-     * maps and sets for rendering.
+     * {@link MoribundClient#world} and to the map of players by their IDs.
      *
      * @param playerId The unique player ID of the character made.
      * @return The newly made player that has been added to the player map.
@@ -57,12 +57,12 @@ public class PlayerUtils {
         val client = MoribundClient.getInstance();
 
         client.getPlayers().put(playerId, player);
-        client.getDrawableGameAssets().add(player);
-        client.getFlaggables().add(player);
+        client.getWorld().add(player);
 
         player.setX(x);
         player.setY(y);
         player.setRotation(rotation);
+        client.getCollisionGrid().update(player, player.getHitbox());
         return player;
     }
 
@@ -74,9 +74,13 @@ public class PlayerUtils {
     public void deletePlayer(int playerId) {
         val client = MoribundClient.getInstance();
         val player = client.getPlayers().get(playerId);
+        if (player == null) {
+            return;
+        }
 
-        client.getDrawableGameAssets().remove(player);
-        client.getFlaggables().remove(player);
+        client.getWorld().remove(player);
         client.getPlayers().remove(playerId);
+        client.getCollisionGrid().remove(player);
+        client.getEntityStore().free(player.getSlot());
     }
 }
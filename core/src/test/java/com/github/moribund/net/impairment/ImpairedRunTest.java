@@ -0,0 +1,174 @@
+package com.github.moribund.net.impairment;
+
+import lombok.extern.java.Log;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Plays a scripted run through an {@link ImpairmentProxy}: a stand-in server sends the position of an entity moving
+ * at a steady speed every tick, and a stand-in client draws frames at a steady rate, guessing where the entity is
+ * from the last position it received, as the game does between two
+ * {@link com.github.moribund.net.packets.game.GameStatePacket}s. The script starts with a clean network and then
+ * turns it lossy and jittery. The frame times and the corrections every new position makes to the guess are
+ * collected by the {@link SmoothnessMonitor}, and logged along with what the proxy did to the traffic.
+ */
+@Log
+public class ImpairedRunTest {
+
+    /**
+     * The rate the server sends positions at.
+     */
+    private static final int TICKS_PER_SECOND = 30;
+
+    /**
+     * The rate the client draws frames at.
+     */
+    private static final int FRAMES_PER_SECOND = 60;
+
+    /**
+     * How far the entity moves each second.
+     */
+    private static final float SPEED = 300;
+
+    /**
+     * How long the network is clean for, in milliseconds.
+     */
+    private static final long CLEAN_STAGE = 1000;
+
+    /**
+     * How long the whole run lasts, in milliseconds.
+     */
+    private static final long RUN_LENGTH = 3000;
+
+    /**
+     * The size of a position datagram: the tick and the x-coordinate.
+     */
+    private static final int POSITION_SIZE = 8;
+
+    private DatagramSocket server;
+    private DatagramChannel client;
+    private ImpairmentProxy proxy;
+    private Thread serverThread;
+
+    @Before
+    public void setUp() throws IOException {
+        val loopback = InetAddress.getLoopbackAddress();
+        server = new DatagramSocket(0, loopback);
+        val script = new ImpairmentScript()
+                .then(CLEAN_STAGE, ImpairmentProfile.NONE)
+                .then(Long.MAX_VALUE, new ImpairmentProfile(80, 40, 0.2f, 0.05f, 0.02f, 0));
+        // nothing ever connects over TCP, so the server's UDP port stands in for its TCP port
+        proxy = new ImpairmentProxy(loopback.getHostAddress(), server.getLocalPort(), server.getLocalPort(), script);
+        proxy.start();
+        client = DatagramChannel.open();
+        client.bind(new InetSocketAddress(loopback, 0));
+        client.connect(new InetSocketAddress(loopback, proxy.getUdpPort()));
+        client.configureBlocking(false);
+        SmoothnessMonitor.getInstance().reset();
+        SmoothnessMonitor.getInstance().setEnabled(true);
+    }
+
+    @After
+    public void tearDown() throws IOException, InterruptedException {
+        SmoothnessMonitor.getInstance().setEnabled(false);
+        SmoothnessMonitor.getInstance().reset();
+        server.close();
+        if (serverThread != null) {
+            serverThread.join();
+        }
+        client.close();
+        proxy.close();
+    }
+
+    @Test
+    public void scriptedRunIsMeasured() throws IOException, InterruptedException {
+        // the server only learns where to send the positions once the client has said hello through the proxy
+        client.write(ByteBuffer.allocate(1));
+        serverThread = new Thread(this::serve, "impaired-run-server");
+        serverThread.start();
+
+        val monitor = SmoothnessMonitor.getInstance();
+        val received = ByteBuffer.allocate(POSITION_SIZE);
+        val nanosPerFrame = TimeUnit.SECONDS.toNanos(1) / FRAMES_PER_SECOND;
+        val start = System.nanoTime();
+        val end = start + TimeUnit.MILLISECONDS.toNanos(RUN_LENGTH);
+        long lastFrame = start;
+        int lastTick = -1;
+        float lastX = 0;
+        long lastReceived = 0;
+        long positions = 0;
+
+        while (System.nanoTime() < end) {
+            val frame = System.nanoTime();
+            monitor.recordFrame((frame - lastFrame) / 1e9f);
+            lastFrame = frame;
+
+            received.clear();
+            while (client.receive(received) != null) {
+                received.flip();
+                val tick = received.getInt();
+                val x = received.getFloat();
+                received.clear();
+                positions++;
+                // a late or duplicated position is older than the guess, so it is thrown away
+                if (tick <= lastTick) {
+                    continue;
+                }
+                if (lastTick >= 0) {
+                    val guess = lastX + SPEED * (frame - lastReceived) / 1e9f;
+                    monitor.recordCorrection(guess, 0, x, 0);
+                }
+                lastTick = tick;
+                lastX = x;
+                lastReceived = frame;
+            }
+
+            val sleep = frame + nanosPerFrame - System.nanoTime();
+            if (sleep > 0) {
+                TimeUnit.NANOSECONDS.sleep(sleep);
+            }
+        }
+
+        val statistics = proxy.getStatistics();
+        log.info("Impaired run: " + monitor.getReport() + "; proxy " + statistics);
+        assertTrue("No positions made it through the proxy", positions > 0);
+        assertTrue("The lossy stage never dropped a datagram", statistics.getDropped() > 0);
+    }
+
+    /**
+     * Waits for the hello of the client, then sends the position of the entity every tick until the socket closes.
+     */
+    private void serve() {
+        val hello = new DatagramPacket(new byte[1], 1);
+        val position = ByteBuffer.allocate(POSITION_SIZE);
+        val nanosPerTick = TimeUnit.SECONDS.toNanos(1) / TICKS_PER_SECOND;
+        try {
+            server.receive(hello);
+            val proxyAddress = hello.getSocketAddress();
+            for (int tick = 0; !server.isClosed(); tick++) {
+                position.clear();
+                position.putInt(tick).putFloat(tick * SPEED / TICKS_PER_SECOND);
+                server.send(new DatagramPacket(position.array(), POSITION_SIZE, proxyAddress));
+                TimeUnit.NANOSECONDS.sleep(nanosPerTick);
+            }
+        } catch (SocketException e) {
+            // the socket has been closed at the end of the run
+        } catch (IOException | InterruptedException e) {
+            log.warning("The server stopped: " + e.getMessage());
+        }
+    }
+}
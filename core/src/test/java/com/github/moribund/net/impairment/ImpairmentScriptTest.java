@@ -0,0 +1,120 @@
+package com.github.moribund.net.impairment;
+
+import lombok.val;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that an {@link ImpairmentScript} is read as its class documentation describes, and that each of its stages
+ * is active for as long as it says.
+ */
+public class ImpairmentScriptTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void everySettingIsRead() throws IOException {
+        val script = load("duration=3000 latency=150 jitter=40 loss=0.05 reorder=0.02 duplicate=0.01 bandwidth=16000");
+        assertEquals(new ImpairmentProfile(150, 40, 0.05f, 0.02f, 0.01f, 16000), script.getProfileAt(0));
+    }
+
+    @Test
+    public void missingSettingsDoNotImpair() throws IOException {
+        val script = load("latency=80");
+        assertEquals(new ImpairmentProfile(80, 0, 0, 0, 0, 0), script.getProfileAt(0));
+    }
+
+    @Test
+    public void commentsAndBlankLinesAreIgnored() throws IOException {
+        val script = load("# a comment", "", "   ", "  latency=20  jitter=5  ", "# latency=999");
+        assertEquals(new ImpairmentProfile(20, 5, 0, 0, 0, 0), script.getProfileAt(0));
+        assertEquals(new ImpairmentProfile(20, 5, 0, 0, 0, 0), script.getProfileAt(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void eachStageIsActiveForItsDuration() throws IOException {
+        val script = load("duration=5000", "duration=3000 latency=150", "latency=80");
+        assertEquals(ImpairmentProfile.NONE, script.getProfileAt(0));
+        assertEquals(ImpairmentProfile.NONE, script.getProfileAt(4999));
+        assertEquals(150, script.getProfileAt(5000).getLatency());
+        assertEquals(150, script.getProfileAt(7999).getLatency());
+        assertEquals(80, script.getProfileAt(8000).getLatency());
+        assertEquals(80, script.getProfileAt(Long.MAX_VALUE - 1).getLatency());
+    }
+
+    @Test
+    public void lastStageStaysActiveOnceItEnds() throws IOException {
+        val script = load("duration=1000 latency=10", "duration=1000 latency=20");
+        assertEquals(20, script.getProfileAt(2000).getLatency());
+        assertEquals(20, script.getProfileAt(1_000_000).getLatency());
+    }
+
+    @Test
+    public void stagesAfterAnEndlessStageNeverStart() {
+        val script = ImpairmentScript.constant(new ImpairmentProfile(10, 0, 0, 0, 0, 0))
+                .then(1000, new ImpairmentProfile(20, 0, 0, 0, 0, 0));
+        assertEquals(10, script.getProfileAt(Long.MAX_VALUE - 1).getLatency());
+    }
+
+    @Test
+    public void emptyScriptDoesNotImpair() throws IOException {
+        assertSame(ImpairmentProfile.NONE, load("# nothing but a comment").getProfileAt(0));
+    }
+
+    @Test
+    public void unknownSettingIsRejectedWithItsLine() throws IOException {
+        assertRejected(":2:", "latency=10", "latency=10 speed=3");
+    }
+
+    @Test
+    public void settingWithoutValueIsRejectedWithItsLine() throws IOException {
+        assertRejected(":1:", "latency");
+    }
+
+    @Test
+    public void malformedNumberIsRejectedWithItsLine() throws IOException {
+        assertRejected(":3:", "# a comment", "duration=100", "loss=lots");
+    }
+
+    /**
+     * Writes a script to a file and reads it back.
+     */
+    private ImpairmentScript load(String... lines) throws IOException {
+        return ImpairmentScript.load(write(lines));
+    }
+
+    /**
+     * Writes the lines of a script to a file of their own.
+     */
+    private Path write(String... lines) throws IOException {
+        val path = folder.newFile().toPath();
+        Files.write(path, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return path;
+    }
+
+    /**
+     * Checks that a script cannot be read, and that the error names the line that is at fault.
+     */
+    private void assertRejected(String line, String... lines) throws IOException {
+        val path = write(lines);
+        try {
+            ImpairmentScript.load(path);
+            fail("The script should have been rejected");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith(path + line));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.moribund.objects.collision;
+
+import com.github.moribund.graphics.sprites.SpriteVertices;
+import lombok.val;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the convex pieces that every {@link SpriteVertices} outline is decomposed into.
+ */
+public class ConvexDecompositionTest {
+
+    /**
+     * How far a cross product can be on the wrong side of zero while still being counted as on the right side, which
+     * allows for collinear vertices.
+     */
+    private static final float EPSILON = 1e-3f;
+
+    /**
+     * The same budget the outlines are simplified to before they are decomposed.
+     */
+    private static final int VERTEX_BUDGET = 24;
+
+    @Test
+    public void everyPieceIsConvex() {
+        for (val outline : SpriteVertices.values()) {
+            val pieces = outline.getShape().getPieces();
+            for (int i = 0; i < pieces.length; i++) {
+                assertTrue(outline + " piece " + i + " is not convex", isConvex(pieces[i]));
+            }
+        }
+    }
+
+    @Test
+    public void piecesAddUpToTheOutline() {
+        for (val outline : SpriteVertices.values()) {
+            float piecesArea = 0;
+            for (val piece : outline.getShape().getPieces()) {
+                piecesArea += Math.abs(signedArea(piece));
+            }
+            // the pieces are of the outline as it is simplified, which for the smaller outlines is as traced
+            val decomposed = ConvexDecomposition.simplify(outline.getVertices(), VERTEX_BUDGET);
+            assertEquals(outline.toString(), Math.abs(signedArea(decomposed)), piecesArea, 0.01f);
+        }
+    }
+
+    @Test
+    public void piecesAreWithinTheHull() {
+        for (val outline : SpriteVertices.values()) {
+            val hull = outline.getShape().getHull();
+            val winding = Math.signum(signedArea(hull));
+            for (val piece : outline.getShape().getPieces()) {
+                for (int i = 0; i < piece.length; i += 2) {
+                    assertTrue(outline + " has a piece outside of its hull",
+                            isWithin(hull, winding, piece[i], piece[i + 1]));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void hullContainsTheOutline() {
+        for (val outline : SpriteVertices.values()) {
+            val hull = outline.getShape().getHull();
+            val winding = Math.signum(signedArea(hull));
+            val vertices = outline.getVertices();
+            for (int i = 0; i < vertices.length; i += 2) {
+                assertTrue(outline + " has a vertex outside of its hull",
+                        isWithin(hull, winding, vertices[i], vertices[i + 1]));
+            }
+        }
+    }
+
+    /**
+     * Checks that a counter-clockwise polygon turns left, or goes straight on, at every corner.
+     */
+    private static boolean isConvex(float[] polygon) {
+        for (int i = 0; i < polygon.length; i += 2) {
+            val b = (i + 2) % polygon.length;
+            val c = (i + 4) % polygon.length;
+            if (cross(polygon[i], polygon[i + 1], polygon[b], polygon[b + 1], polygon[c], polygon[c + 1]) < -EPSILON) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that a point is inside, or on an edge of, a convex polygon of either winding.
+     */
+    private static boolean isWithin(float[] polygon, float winding, float x, float y) {
+        for (int i = 0; i < polygon.length; i += 2) {
+            val next = (i + 2) % polygon.length;
+            val side = cross(polygon[i], polygon[i + 1], polygon[next], polygon[next + 1], x, y) * winding;
+            if (side < -EPSILON) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the area of a polygon, positive when it is counter-clockwise.
+     */
+    private static float signedArea(float[] polygon) {
+        float doubleArea = 0;
+        for (int i = 0; i < polygon.length; i += 2) {
+            val next = (i + 2) % polygon.length;
+            doubleArea += polygon[i] * polygon[next + 1] - polygon[next] * polygon[i + 1];
+        }
+        return doubleArea / 2;
+    }
+
+    /**
+     * Gets the cross product of the corner at b, going from a to b to c. It is positive for a left turn.
+     */
+    private static float cross(float ax, float ay, float bx, float by, float cx, float cy) {
+        return (bx - ax) * (cy - by) - (by - ay) * (cx - bx);
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.moribund.objects.collision;
+
+import lombok.val;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link NarrowPhase#sweeps(Hitbox, float, float, Hitbox)} catches a fast hitbox that would tunnel
+ * through a thin one were only the end of its motion tested, without any of its layers rejecting a pair that touches.
+ */
+public class NarrowPhaseTest {
+
+    /**
+     * A square 10 wide, rotating around its center.
+     */
+    private Hitbox projectile;
+
+    /**
+     * A wall 2 wide and 100 tall, standing at x = 100 from y = -50 to y = 50.
+     */
+    private Hitbox wall;
+
+    @Before
+    public void setUp() {
+        val square = SweptSeparatingAxisTest.square(0, 0);
+        projectile = new Hitbox(new HitboxShape(square, new float[][] { square }), 5, 5);
+        val wallOutline = new float[] { 0, 0, 2, 0, 2, 100, 0, 100 };
+        wall = new Hitbox(new HitboxShape(wallOutline, new float[][] { wallOutline }), 1, 50);
+        wall.setTransform(100, -50, 0);
+    }
+
+    @Test
+    public void thinTargetCrossedInOneStepIsHit() {
+        projectile.setTransform(200, -5, 0);
+        assertFalse(NarrowPhase.overlaps(projectile, wall));
+        assertTrue(NarrowPhase.sweeps(projectile, 200, 0, wall));
+    }
+
+    @Test
+    public void nearMissIsNotHit() {
+        // past the top left corner of the wall, which the bounding circle and box of the motion both reach
+        projectile.setTransform(126, 96, 0);
+        assertFalse(NarrowPhase.sweeps(projectile, 60, 60, wall));
+    }
+
+    @Test
+    public void targetTouchedOnlyAtTheEndIsHit() {
+        // the right edge of the projectile ends exactly on the left edge of the wall
+        projectile.setTransform(90, -5, 0);
+        assertTrue(NarrowPhase.sweeps(projectile, 90, 0, wall));
+    }
+}
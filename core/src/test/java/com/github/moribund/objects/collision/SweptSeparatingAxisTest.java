@@ -0,0 +1,69 @@
+package com.github.moribund.objects.collision;
+
+import lombok.val;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Checks that the {@link SweptSeparatingAxis} finds a moving polygon that passes through a thin one between where it
+ * starts and where it ends.
+ */
+public class SweptSeparatingAxisTest {
+
+    /**
+     * A wall 2 wide and 100 tall, standing at x = 100.
+     */
+    private static final float[] WALL = { 100, -50, 102, -50, 102, 50, 100, 50 };
+
+    @Test
+    public void thinTargetCrossedInOneStepIsHit() {
+        // from x = 0 to x = 200, so the square is on neither side of the wall at either end
+        val end = square(200, -5);
+        assertNotEquals(SweptSeparatingAxis.NO_IMPACT, SweptSeparatingAxis.timeOfImpact(end, 200, 0, WALL), 0);
+    }
+
+    @Test
+    public void timeOfImpactIsWhenTheTargetIsFirstTouched() {
+        val end = square(200, -5);
+        // the right edge of the square starts at x = 10 and reaches the wall after 90 of the 200
+        assertEquals(90f / 200, SweptSeparatingAxis.timeOfImpact(end, 200, 0, WALL), 1e-5f);
+    }
+
+    @Test
+    public void nearMissIsNotHit() {
+        // just above the top of the wall
+        val end = square(200, 51);
+        assertEquals(SweptSeparatingAxis.NO_IMPACT, SweptSeparatingAxis.timeOfImpact(end, 200, 0, WALL), 0);
+    }
+
+    @Test
+    public void diagonalNearMissIsNotHit() {
+        // past the top left corner of the wall, which is within the bounding box of the motion
+        val end = square(126, 96);
+        assertEquals(SweptSeparatingAxis.NO_IMPACT, SweptSeparatingAxis.timeOfImpact(end, 60, 60, WALL), 0);
+    }
+
+    @Test
+    public void targetTouchedOnlyAtTheEndIsHit() {
+        // the right edge of the square ends exactly on the left edge of the wall
+        val end = square(90, -5);
+        assertEquals(1, SweptSeparatingAxis.timeOfImpact(end, 90, 0, WALL), 0);
+    }
+
+    @Test
+    public void targetBehindTheStartIsNotHit() {
+        val end = square(300, -5);
+        assertEquals(SweptSeparatingAxis.NO_IMPACT, SweptSeparatingAxis.timeOfImpact(end, 100, 0, WALL), 0);
+    }
+
+    /**
+     * Makes a counter-clockwise square 10 wide.
+     * @param x The x-coordinate of its bottom left corner.
+     * @param y The y-coordinate of its bottom left corner.
+     */
+    static float[] square(float x, float y) {
+        return new float[] { x, y, x + 10, y, x + 10, y + 10, x, y + 10 };
+    }
+}